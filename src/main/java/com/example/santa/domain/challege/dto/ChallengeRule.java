@@ -0,0 +1,13 @@
+package com.example.santa.domain.challege.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 진행도 계산에 필요한 챌린지 정보만 담은 값 (변경 불가)
+@Getter
+@AllArgsConstructor
+public class ChallengeRule {
+    private final Long challengeId;
+    private final Long categoryId;
+    private final Integer clearStandard;
+}
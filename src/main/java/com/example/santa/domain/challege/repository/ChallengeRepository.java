@@ -1,9 +1,11 @@
 package com.example.santa.domain.challege.repository;
 
+import com.example.santa.domain.challege.dto.ChallengeRule;
 import com.example.santa.domain.challege.entity.Challenge;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,4 +15,7 @@ public interface ChallengeRepository extends JpaRepository<Challenge,Long> {
     Page<Challenge> findAll(Pageable pageable);
     List<Challenge> findByCategoryName(String categoryName);
 
+    @Query("SELECT new com.example.santa.domain.challege.dto.ChallengeRule(c.id, c.category.id, c.clearStandard) FROM Challenge c")
+    List<ChallengeRule> findAllRules();
+
 }
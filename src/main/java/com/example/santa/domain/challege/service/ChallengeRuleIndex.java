@@ -0,0 +1,90 @@
+package com.example.santa.domain.challege.service;
+
+import com.example.santa.domain.challege.dto.ChallengeRule;
+import com.example.santa.domain.challege.repository.ChallengeRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/*
+ * 카테고리 -> 챌린지 규칙(id, 달성 기준) 인덱스 (메모리)
+ * 챌린지 정의는 관리자가 수정할 때만 바뀌므로 진행도 계산 시에는 DB 를 읽지 않고 여기서 꺼내 쓴다.
+ * 챌린지 등록/수정/삭제가 커밋되면 전체를 새로 읽어서 통째로 교체하고,
+ * Redis pub/sub 으로 다른 서버에도 알려서 같이 다시 만들게 한다.
+ */
+@Slf4j
+@Component
+public class ChallengeRuleIndex implements MessageListener {
+
+    private static final String CHANNEL = "challenge:rules:changed";
+
+    private final ChallengeRepository challengeRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    // 내가 보낸 알림은 무시하기 위한 서버 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile Map<Long, List<ChallengeRule>> rulesByCategory = Collections.emptyMap();
+
+    public ChallengeRuleIndex(ChallengeRepository challengeRepository, StringRedisTemplate stringRedisTemplate, RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.challengeRepository = challengeRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public List<ChallengeRule> getRules(Long categoryId) {
+        return rulesByCategory.getOrDefault(categoryId, Collections.emptyList());
+    }
+
+    // 스케줄 작업(아웃박스 처리 등)이 시작되기 전에 채워지도록 빈 초기화 시점에 만든다
+    @PostConstruct
+    public void rebuild() {
+        Map<Long, List<ChallengeRule>> rules = new HashMap<>();
+        for (ChallengeRule rule : challengeRepository.findAllRules()) {
+            rules.computeIfAbsent(rule.getCategoryId(), key -> new ArrayList<>()).add(rule);
+        }
+        rules.replaceAll((categoryId, list) -> List.copyOf(list));
+        this.rulesByCategory = Map.copyOf(rules);
+        log.info("challenge rule index rebuilt : {} categories", rules.size());
+    }
+
+    // 챌린지 변경 트랜잭션이 커밋된 뒤에 다시 만들고 다른 서버에 알림
+    public void rebuildAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            rebuildAndPublish();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                rebuildAndPublish();
+            }
+        });
+    }
+
+    private void rebuildAndPublish() {
+        rebuild();
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, nodeId);
+        } catch (RuntimeException e) {
+            // 알림 실패 시 다른 서버는 재시작 전까지 이전 규칙을 사용하므로 로그로 남김
+            log.warn("challenge rule change publish failed", e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String sender = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (!nodeId.equals(sender)) {
+            rebuild();
+        }
+    }
+}
@@ -32,13 +32,15 @@ public class ChallengeServiceImpl implements ChallengeService{
 
     private final CategoryRepository categoryRepository;
     private final S3ImageService s3ImageService;
+    private final ChallengeRuleIndex challengeRuleIndex;
 
     @Autowired
-    public ChallengeServiceImpl(ChallengeRepository challengeRepository, CategoryRepository categoryRepository, ChallengeResponseMapper challengeResponseMapper, S3ImageService s3ImageService) {
+    public ChallengeServiceImpl(ChallengeRepository challengeRepository, CategoryRepository categoryRepository, ChallengeResponseMapper challengeResponseMapper, S3ImageService s3ImageService, ChallengeRuleIndex challengeRuleIndex) {
         this.challengeRepository = challengeRepository;
         this.categoryRepository = categoryRepository;
         this.challengeResponseMapper = challengeResponseMapper;
         this.s3ImageService = s3ImageService;
+        this.challengeRuleIndex = challengeRuleIndex;
     }
 
 
@@ -63,6 +65,7 @@ public class ChallengeServiceImpl implements ChallengeService{
                 .clearStandard(challengeCreateDto.getClearStandard())
                 .image(imageUrl)
                 .build());
+        challengeRuleIndex.rebuildAfterCommit();
         return challengeResponseMapper.toDto(save);
     }
 
@@ -82,6 +85,7 @@ public class ChallengeServiceImpl implements ChallengeService{
     }
 
 
+    @Transactional
     @Override
     public ChallengeResponseDto updateChallenge(Long id, ChallengeCreateDto challengeCreateDto) {
         MultipartFile imageFile = challengeCreateDto.getImageFile();
@@ -102,14 +106,17 @@ public class ChallengeServiceImpl implements ChallengeService{
             challenge.setClearStandard(challengeCreateDto.getClearStandard());
             challenge = challengeRepository.save(challenge);
             result = challengeResponseMapper.toDto(challenge);
+            challengeRuleIndex.rebuildAfterCommit();
         }
         return result;
     }
 
+    @Transactional
     @Override
     public void deleteChallenge(Long id) {
 
         challengeRepository.deleteById(id);
+        challengeRuleIndex.rebuildAfterCommit();
     }
 
 }
@@ -4,7 +4,7 @@ import com.example.santa.domain.meeting.dto.MeetingDto;
 import com.example.santa.domain.meeting.dto.MeetingResponseDto;
 import com.example.santa.domain.meeting.dto.ParticipantDto;
 import com.example.santa.domain.meeting.service.MeetingService;
-import com.example.santa.domain.userchallenge.service.UserChallengeServiceImpl;
+import com.example.santa.global.security.UserPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -13,6 +13,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -28,11 +29,9 @@ import java.util.Map;
 public class MeetingController {
 
     private final MeetingService meetingService;
-    private final UserChallengeServiceImpl userChallengeService;
 
-    public MeetingController(MeetingService meetingService, UserChallengeServiceImpl userChallengeService) {
+    public MeetingController(MeetingService meetingService) {
         this.meetingService = meetingService;
-        this.userChallengeService = userChallengeService;
     }
 
     @Operation(summary = "모임 생성 기능", description = "모임 생성")
@@ -40,8 +39,8 @@ public class MeetingController {
             @ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = MeetingResponseDto.class)))
     })
     @PostMapping
-    public ResponseEntity<MeetingResponseDto> createMeeting(@AuthenticationPrincipal String email, @ModelAttribute @Valid MeetingDto meetingDto){
-        meetingDto.setUserEmail(email);
+    public ResponseEntity<MeetingResponseDto> createMeeting(@AuthenticationPrincipal UserPrincipal principal, @ModelAttribute @Valid MeetingDto meetingDto){
+        meetingDto.setUserId(principal.getId());
         return ResponseEntity.ok(meetingService.createMeeting(meetingDto));
     }
 
@@ -61,13 +60,25 @@ public class MeetingController {
             @ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = MeetingResponseDto.class)))
     })
     @PostMapping("{meetingId}/participants")
-    public ResponseEntity<?> joinMeeting(@AuthenticationPrincipal String email, @PathVariable(name = "meetingId") Long id){
+    public ResponseEntity<?> joinMeeting(@AuthenticationPrincipal UserPrincipal principal, @PathVariable(name = "meetingId") Long id){
 
-        meetingService.joinMeeting(id, email);
+        meetingService.joinMeeting(id, principal.getId());
         return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("message", "성공적으로 참가되었습니다."));
 
     }
 
+    @Operation(summary = "모임 탈퇴 기능", description = "모임 id로 그 모임에서 나가기(모임장 제외)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = MeetingResponseDto.class)))
+    })
+    @DeleteMapping("{meetingId}/participants")
+    public ResponseEntity<?> leaveMeeting(@AuthenticationPrincipal UserPrincipal principal, @PathVariable(name = "meetingId") Long id){
+
+        meetingService.leaveMeeting(id, principal.getId());
+        return ResponseEntity.ok(Map.of("message", "모임에서 나갔습니다."));
+
+    }
+
     @Operation(summary = "모임 조회 기능", description = "모든 모임 조회")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = MeetingResponseDto.class)))
@@ -90,9 +101,9 @@ public class MeetingController {
             @ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = MeetingResponseDto.class)))
     })
     @PatchMapping("/{meetingId}")
-    public ResponseEntity<MeetingResponseDto> updateMeeting(@AuthenticationPrincipal String email,
+    public ResponseEntity<MeetingResponseDto> updateMeeting(@AuthenticationPrincipal UserPrincipal principal,
             @PathVariable(name = "meetingId") Long id, @ModelAttribute @Valid MeetingDto meetingDto) {
-        return ResponseEntity.ok(meetingService.updateMeeting(email, id, meetingDto));
+        return ResponseEntity.ok(meetingService.updateMeeting(principal.getId(), id, meetingDto));
     }
 
     @Operation(summary = "모임 삭제 기능(모임장,관리자)", description = "모임 삭제")
@@ -100,8 +111,8 @@ public class MeetingController {
             @ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = MeetingResponseDto.class)))
     })
     @DeleteMapping("/{meetingId}")
-    public ResponseEntity<?> deleteMeeting(@AuthenticationPrincipal String email, @PathVariable(name = "meetingId") Long id) {
-        meetingService.deleteMeeting(email,id);
+    public ResponseEntity<?> deleteMeeting(@AuthenticationPrincipal UserPrincipal principal, @PathVariable(name = "meetingId") Long id) {
+        meetingService.deleteMeeting(principal.getId(),id);
         return ResponseEntity.ok().build();
     }
 
@@ -162,26 +173,32 @@ public class MeetingController {
     @GetMapping("/participants")
     public ResponseEntity<Page<MeetingResponseDto>> getAllMeetingsByParticipantCount(@RequestParam(name = "page", defaultValue = "0") int page,
                                                               @RequestParam(name = "size", defaultValue = "5") int size) {
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by("id").descending());
+        // 정렬은 쿼리에서 (참가자 수, id) 순으로 고정
+        PageRequest pageRequest = PageRequest.of(page, size);
         return ResponseEntity.ok(meetingService.getAllMeetingsByParticipantCount(pageRequest));
     }
 
-//    @GetMapping("/participants")
-//    public ResponseEntity<?> getAllMeetingsByParticipantCount(@RequestParam(name = "lastId", required = false) Long lastId,
-//                                                              @RequestParam(name = "size", defaultValue = "5") int size) {
-//        return ResponseEntity.ok(meetingService.getAllMeetingsByParticipantCountNoOffset(lastId, size));
-//    }
+    @Operation(summary = "모임 조회 기능(NoOffset)", description = "모임 인기도순 조회, 마지막 모임의 participantCount 와 id 를 넘기면 다음 목록 조회")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = MeetingResponseDto.class)))
+    })
+    @GetMapping("/participants/scroll")
+    public ResponseEntity<Slice<MeetingResponseDto>> getAllMeetingsByParticipantCountNoOffset(@RequestParam(name = "lastCount", required = false) Integer lastCount,
+                                                                                             @RequestParam(name = "lastId", required = false) Long lastId,
+                                                                                             @RequestParam(name = "size", defaultValue = "5") int size) {
+        return ResponseEntity.ok(meetingService.getAllMeetingsByParticipantCountNoOffset(lastCount, lastId, size));
+    }
 
     @Operation(summary = "모임 조회 기능", description = "내가 참여중인 모임 조회")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = MeetingResponseDto.class)))
     })
     @GetMapping("/my-meetings")
-    public ResponseEntity<Page<MeetingResponseDto>> getMyMeetings(@AuthenticationPrincipal String email,
+    public ResponseEntity<Page<MeetingResponseDto>> getMyMeetings(@AuthenticationPrincipal UserPrincipal principal,
                                            @RequestParam(name = "page", defaultValue = "0") int page,
                                            @RequestParam(name = "size", defaultValue = "5") int size) {
         PageRequest pageRequest = PageRequest.of(page, size, Sort.by("id").descending());
-        return ResponseEntity.ok(meetingService.getMyMeetings(email,pageRequest));
+        return ResponseEntity.ok(meetingService.getMyMeetings(principal.getId(),pageRequest));
     }
 
 //    @GetMapping("/my-meetings")
@@ -196,15 +213,10 @@ public class MeetingController {
             @ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = MeetingResponseDto.class)))
     })
     @PostMapping("/{meetingId}/end")
-    public ResponseEntity<List<ParticipantDto>> endMeeting(@AuthenticationPrincipal String email,
+    public ResponseEntity<List<ParticipantDto>> endMeeting(@AuthenticationPrincipal UserPrincipal principal,
                                         @PathVariable(name = "meetingId") Long id) {
 
-        List<ParticipantDto> participants = meetingService.endMeeting(email, id);
-
-        for (ParticipantDto participant : participants){
-            userChallengeService.updateUserChallengeOnMeetingJoin(id, participant.getUserId());
-        }
-
+        List<ParticipantDto> participants = meetingService.endMeeting(principal.getId(), id);
         return ResponseEntity.ok(participants);
 
     }
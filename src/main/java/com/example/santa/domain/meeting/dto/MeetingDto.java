@@ -20,7 +20,7 @@ import java.util.Set;
 public class MeetingDto {
     private Long meetingId;
     private Long leaderId;
-    private String userEmail;
+    private Long userId;
     //@NotBlank(message = "모임 이름을 입력하세요.")
     private String meetingName;
     private String categoryName;
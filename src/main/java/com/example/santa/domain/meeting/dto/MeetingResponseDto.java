@@ -27,6 +27,7 @@ public class MeetingResponseDto {
     private String description;
     @NotNull(message = "인원 수를 입력하세요.")
     private int headcount;
+    private int participantCount;
     @NotNull(message = "날짜를 입력하세요.")
     private LocalDate date;
     private List<String> tags;
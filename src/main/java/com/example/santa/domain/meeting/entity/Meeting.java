@@ -8,6 +8,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDate;
 import java.util.HashSet;
@@ -15,6 +16,10 @@ import java.util.List;
 import java.util.Set;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_meeting_participant_count_id", columnList = "participant_count, id"),
+        @Index(name = "idx_meeting_date", columnList = "date")
+})
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -35,10 +40,16 @@ public class Meeting extends BaseEntity {
     private LocalDate date;
     private String image;
     private boolean end = false;
+    // 인기순 정렬용 참가자 수 (참여/탈퇴 시 UPDATE 로 증감)
+    // 모임 수정 시 엔티티 저장으로 이전 값이 덮어써지지 않도록 UPDATE 쿼리로만 변경
+    @Column(updatable = false)
+    private int participantCount;
 
     @ManyToOne(fetch = FetchType.LAZY)
     private User leader;
 
+    // 목록 조회 시 모임마다 따로 조회하지 않고 IN 절로 한 번에 조회
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "meeting", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonManagedReference("meeting-meetingTag")
     private Set<MeetingTag> meetingTags = new HashSet<>();
@@ -47,6 +58,7 @@ public class Meeting extends BaseEntity {
     @JoinColumn(name = "category_name")
     private Category category;
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "meeting", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Participant> participant;
 
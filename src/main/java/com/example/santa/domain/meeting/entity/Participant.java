@@ -5,6 +5,8 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_participant_meeting_user", columnNames = {"meeting_id", "user_id"}),
+        indexes = @Index(name = "idx_participant_user_meeting", columnList = "user_id, meeting_id"))
 @Getter
 @Setter
 @NoArgsConstructor
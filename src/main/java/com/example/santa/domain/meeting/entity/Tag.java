@@ -11,6 +11,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_tag_name", columnNames = "name"))
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
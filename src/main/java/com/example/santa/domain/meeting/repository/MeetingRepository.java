@@ -3,37 +3,89 @@ package com.example.santa.domain.meeting.repository;
 import com.example.santa.domain.meeting.entity.Meeting;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface MeetingRepository extends JpaRepository<Meeting, Long> {
+    /*
+     * 목록 조회는 category 를 함께 조회하고 태그/참가자는 @BatchSize 로 IN 조회
+     * (페이지 크기와 상관없이 쿼리 수가 일정하도록)
+     */
+    @EntityGraph(attributePaths = "category")
+    @Override
+    Page<Meeting> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = "category")
     @Query("SELECT m FROM Meeting m JOIN m.meetingTags mt JOIN mt.tag t WHERE t.name = :tagName")
     Page<Meeting> findByTagName(@Param("tagName") String tagName, Pageable pageable);
 
+    @EntityGraph(attributePaths = "category")
     @Query("SELECT m FROM Meeting m JOIN m.meetingTags mt JOIN mt.tag t WHERE t.name = :tagName AND m.id < :lastId")
     Page<Meeting> findByTagNameAndIdLessThan(@Param("tagName") String tagName, @Param("lastId") Long lastId, Pageable pageable);
 
 
+    @EntityGraph(attributePaths = "category")
     Page<Meeting> findByCategory_Name(String categoryName, Pageable pageable);
 
+    @EntityGraph(attributePaths = "category")
     Page<Meeting> findByCategory_NameAndIdLessThan(String categoryName, Long lastId, Pageable pageable);
 
-    @Query("SELECT m FROM Meeting m LEFT JOIN m.participant p GROUP BY m.id ORDER BY COUNT(p) DESC")
+    // 인기순 : (participant_count, id) 인덱스 순서 그대로 조회
+    @EntityGraph(attributePaths = "category")
+    @Query(value = "SELECT m FROM Meeting m ORDER BY m.participantCount DESC, m.id DESC",
+            countQuery = "SELECT COUNT(m) FROM Meeting m")
     Page<Meeting> findAllByParticipantCount(Pageable pageable);
 
-    @Query("SELECT m FROM Meeting m LEFT JOIN m.participant p GROUP BY m.id HAVING m.id < :lastId ORDER BY COUNT(p) DESC, m.id DESC")
-    Page<Meeting> findAllByParticipantCountAndIdLessThan(@Param("lastId") Long lastId, Pageable pageable);
+    @EntityGraph(attributePaths = "category")
+    @Query("SELECT m FROM Meeting m " +
+            "WHERE m.participantCount < :lastCount OR (m.participantCount = :lastCount AND m.id < :lastId) " +
+            "ORDER BY m.participantCount DESC, m.id DESC")
+    Slice<Meeting> findAllByParticipantCountAfter(@Param("lastCount") int lastCount, @Param("lastId") Long lastId, Pageable pageable);
+
+    // 자리 예약 : 모집 인원보다 적을 때만 증가 (0 이면 마감), 같은 모임 참여는 이 행 잠금으로 순서대로 처리됨
+    @Modifying
+    @Query("UPDATE Meeting m SET m.participantCount = m.participantCount + 1 WHERE m.id = :id AND m.participantCount < m.headcount")
+    int reserveSeat(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Meeting m SET m.participantCount = m.participantCount - 1 WHERE m.id = :id AND m.participantCount > 0")
+    int decreaseParticipantCount(@Param("id") Long id);
+
+    // 모집 인원 변경은 지금 참가자 수 이상일 때만 (참여와 같은 행 잠금으로 직렬화)
+    @Modifying
+    @Query("UPDATE Meeting m SET m.headcount = :headcount WHERE m.id = :id AND m.participantCount <= :headcount")
+    int updateHeadcount(@Param("id") Long id, @Param("headcount") int headcount);
 
+    // 아직 종료되지 않은 모임만 종료 (여러 번 호출되어도 한 번만 1 을 반환)
+    @Modifying
+    @Query(value = "UPDATE meeting SET `end` = TRUE WHERE id = :id AND `end` = FALSE", nativeQuery = true)
+    int markEnded(@Param("id") Long id);
+
+    // 참가자 테이블 기준으로 참가자 수 보정
+    @Modifying
+    @Query("UPDATE Meeting m SET m.participantCount = (SELECT COUNT(p) FROM Participant p WHERE p.meeting = m)")
+    int syncParticipantCounts();
+
+    @EntityGraph(attributePaths = "category")
     @Query("SELECT m FROM Meeting m JOIN m.participant p WHERE p.user.id = :userId")
     Page<Meeting> findMeetingsByParticipantUserId(@Param("userId") Long userId, Pageable pageable);
 
+    @EntityGraph(attributePaths = "category")
     @Query("SELECT m FROM Meeting m JOIN m.participant p WHERE p.user.id = :userId AND m.id < :lastId ORDER BY m.id DESC")
     Page<Meeting> findMeetingsByParticipantUserIdAndIdLessThan(@Param("userId") Long userId, @Param("lastId") Long lastId, Pageable pageable);
 
 
 
+    @Query("SELECT m.category.id FROM Meeting m WHERE m.id = :id")
+    Optional<Long> findCategoryIdById(@Param("id") Long id);
+
+    @EntityGraph(attributePaths = "category")
     Page<Meeting> findByIdLessThanOrderByIdDesc(Long lastId, Pageable pageable);
 }
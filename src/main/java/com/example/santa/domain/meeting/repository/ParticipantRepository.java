@@ -3,5 +3,18 @@ package com.example.santa.domain.meeting.repository;
 import com.example.santa.domain.meeting.entity.Participant;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.LocalDate;
+import java.util.Optional;
+
 public interface ParticipantRepository extends JpaRepository<Participant, Long> {
+
+    Optional<Participant> findByMeetingIdAndUserId(Long meetingId, Long userId);
+
+    boolean existsByMeetingIdAndUserId(Long meetingId, Long userId);
+
+    // 같은 날짜 모임 참여 여부 (participant(user_id, meeting_id) -> meeting PK 로 확인, 엔티티 로딩 없음)
+    boolean existsByUser_IdAndMeeting_Date(Long userId, LocalDate date);
+
+    // 같은 날짜의 다른 모임 참여 여부 (이 모임은 제외)
+    boolean existsByUser_IdAndMeeting_DateAndMeeting_IdNot(Long userId, LocalDate date, Long meetingId);
 }
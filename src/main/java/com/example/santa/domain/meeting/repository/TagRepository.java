@@ -1,10 +1,23 @@
 package com.example.santa.domain.meeting.repository;
 
 import com.example.santa.domain.meeting.entity.Tag;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TagRepository extends JpaRepository<Tag, Long> {
     Optional<Tag> findByName(String tagName);
+
+    List<Tag> findByNameIn(Collection<String> tagNames);
+
+    // 공유 잠금 조회는 스냅샷이 아닌 최신 커밋 데이터를 읽음
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT t FROM Tag t WHERE t.name IN :tagNames")
+    List<Tag> findByNameInForShare(@Param("tagNames") Collection<String> tagNames);
 }
@@ -6,6 +6,7 @@ import com.example.santa.domain.meeting.dto.ParticipantDto;
 import com.example.santa.domain.meeting.entity.Participant;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -13,18 +14,20 @@ public interface MeetingService {
 
     MeetingResponseDto createMeeting(MeetingDto meetingDto);
     MeetingResponseDto meetingDetail(Long id);
-    Participant joinMeeting(Long id, String userEmail);
+    Participant joinMeeting(Long id, Long userId);
+    void leaveMeeting(Long id, Long userId);
     Page<MeetingResponseDto> getAllMeetings(Pageable pageable);
     Page<MeetingResponseDto> getAllMeetingsNoOffset(Long lastId, int size);
-    MeetingResponseDto updateMeeting(String email, Long id, MeetingDto meetingDto);
-    void deleteMeeting(String email, Long id);
+    MeetingResponseDto updateMeeting(Long userId, Long id, MeetingDto meetingDto);
+    void deleteMeeting(Long userId, Long id);
     Page<MeetingResponseDto> getMeetingsByTagName(String tagName, Pageable pageable);
     Page<MeetingResponseDto> getMeetingsByTagNameNoOffset(String tagName, Long lastId, int size);
     Page<MeetingResponseDto> getMeetingsByCategoryName(String categoryName, Pageable pageable);
     Page<MeetingResponseDto> getMeetingsByCategoryNameNoOffset(String categoryName, Long lastId, int size);
     Page<MeetingResponseDto> getAllMeetingsByParticipantCount(Pageable pageable);
-    Page<MeetingResponseDto> getAllMeetingsByParticipantCountNoOffset(Long lastId, int size);
-    Page<MeetingResponseDto> getMyMeetings(String email, Pageable pageable);
-    Page<MeetingResponseDto> getMyMeetingsNoOffset(Long lastId, int size, String email);
-    List<ParticipantDto> endMeeting(String email, Long id);
+    Slice<MeetingResponseDto> getAllMeetingsByParticipantCountNoOffset(Integer lastCount, Long lastId, int size);
+    Page<MeetingResponseDto> getMyMeetings(Long userId, Pageable pageable);
+    Page<MeetingResponseDto> getMyMeetingsNoOffset(Long lastId, int size, Long userId);
+    List<ParticipantDto> endMeeting(Long userId, Long id);
+    void syncParticipantCounts();
 }
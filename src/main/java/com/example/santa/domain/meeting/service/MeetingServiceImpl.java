@@ -12,7 +12,7 @@ import com.example.santa.domain.meeting.entity.Tag;
 import com.example.santa.domain.meeting.repository.MeetingRepository;
 import com.example.santa.domain.meeting.repository.MeetingTagRepository;
 import com.example.santa.domain.meeting.repository.ParticipantRepository;
-import com.example.santa.domain.meeting.repository.TagRepository;
+import com.example.santa.domain.outbox.service.OutboxEventService;
 import com.example.santa.domain.user.entity.Role;
 import com.example.santa.domain.user.entity.User;
 import com.example.santa.domain.user.repository.UserRepository;
@@ -21,9 +21,11 @@ import com.example.santa.global.exception.ServiceLogicException;
 import com.example.santa.global.util.S3ImageService;
 import com.example.santa.global.util.mapsturct.ParticipantsDtoMapper;
 import jakarta.transaction.Transactional;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -37,35 +39,36 @@ public class MeetingServiceImpl implements MeetingService {
     private final MeetingRepository meetingRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
-    private final TagRepository tagRepository;
+    private final TagService tagService;
     private final MeetingTagRepository meetingTagRepository;
     private final ParticipantRepository participantRepository;
     private final ParticipantsDtoMapper participantsDtoMapper;
     private final S3ImageService s3ImageService;
+    private final OutboxEventService outboxEventService;
 
-    public MeetingServiceImpl(MeetingRepository meetingRepository, UserRepository userRepository, CategoryRepository categoryRepository, TagRepository tagRepository, MeetingTagRepository meetingTagRepository, ParticipantRepository participantRepository, ParticipantsDtoMapper participantsDtoMapper, S3ImageService s3ImageService) {
+    public MeetingServiceImpl(MeetingRepository meetingRepository, UserRepository userRepository, CategoryRepository categoryRepository, TagService tagService, MeetingTagRepository meetingTagRepository, ParticipantRepository participantRepository, ParticipantsDtoMapper participantsDtoMapper, S3ImageService s3ImageService, OutboxEventService outboxEventService) {
         this.meetingRepository = meetingRepository;
         this.userRepository = userRepository;
         this.categoryRepository = categoryRepository;
-        this.tagRepository = tagRepository;
+        this.tagService = tagService;
         this.meetingTagRepository = meetingTagRepository;
         this.participantRepository = participantRepository;
         this.participantsDtoMapper = participantsDtoMapper;
         this.s3ImageService = s3ImageService;
+        this.outboxEventService = outboxEventService;
     }
 
     @Override
+    @Transactional
     public MeetingResponseDto createMeeting(MeetingDto meetingDto){
         // dto에서 불러온 카테고리명으로 카테고리를 가져옴
         Category category = categoryRepository.findByName(meetingDto.getCategoryName())
                 .orElseThrow(() -> new ServiceLogicException(ExceptionCode.CATEGORY_NOT_FOUND));
-        // 현재 로그인 한 유저를 불러옴
-        User leader = userRepository.findByEmail(meetingDto.getUserEmail())
-                .orElseThrow(() -> new ServiceLogicException(ExceptionCode.USER_NOT_FOUND));
+        // 현재 로그인 한 유저 (토큰의 id 로 참조만 만듦, 조회 없음)
+        User leader = userRepository.getReferenceById(meetingDto.getUserId());
 
         // 이미 같은 날짜에 다른 모임에 참여 중인지 확인
-        boolean isParticipatingOnSameDate = userRepository.findMeetingsByUserId(leader.getId()).stream()
-                .anyMatch(m -> m.getDate().equals(meetingDto.getDate()));
+        boolean isParticipatingOnSameDate = participantRepository.existsByUser_IdAndMeeting_Date(meetingDto.getUserId(), meetingDto.getDate());
 
         if (isParticipatingOnSameDate) {
             // 같은 날짜에 다른 모임에 이미 참여중인 경우 예외 발생
@@ -88,23 +91,20 @@ public class MeetingServiceImpl implements MeetingService {
                 .headcount(meetingDto.getHeadcount())
                 .date(meetingDto.getDate())
                 .image(imageUrl)
+                .participantCount(1) // 모임장
                 .build();
 
         meetingRepository.save(meeting);
 
         Set<MeetingTag> meetingTags = new HashSet<>();
-        // dto에 있는 해시태그에서 생성되지 않은 해시태그면 생성해주고 생성되어 있으면 가져옴
-        for (String tagName : meetingDto.getTags()) {
-            Tag tag = tagRepository.findByName(tagName)
-                    .orElseGet(() -> tagRepository.save(Tag.builder()
-                            .name(tagName)
-                            .build()));
-            MeetingTag meetingTag = MeetingTag.builder()
+        // dto에 있는 해시태그에서 생성되지 않은 해시태그면 생성해주고 생성되어 있으면 가져옴 (한 번에 처리)
+        for (Tag tag : tagService.resolveTags(meetingDto.getTags())) {
+            meetingTags.add(MeetingTag.builder()
                     .tag(tag)
                     .meeting(meeting)
-                    .build();
-            meetingTags.add(meetingTagRepository.save(meetingTag));
+                    .build());
         }
+        meetingTagRepository.saveAll(meetingTags);
 
         meeting.setMeetingTags(meetingTags);
 
@@ -131,41 +131,76 @@ public class MeetingServiceImpl implements MeetingService {
     }
 
     @Override
-    public Participant joinMeeting(Long id, String userEmail) {
+    @Transactional
+    public Participant joinMeeting(Long id, Long userId) {
         Meeting meeting = meetingRepository.findById(id)
                 .orElseThrow(() -> new ServiceLogicException(ExceptionCode.MEETING_NOT_FOUND));
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new ServiceLogicException(ExceptionCode.USER_NOT_FOUND));
-
-        // 이미 참여중인지 확인
-        boolean isAlreadyParticipant = meeting.getParticipant().stream()
-                .anyMatch(participant -> participant.getUser().getId().equals(user.getId()));
+        User user = userRepository.getReferenceById(userId);
 
-        if (isAlreadyParticipant) {
-            // 이미 참여중인 경우 예외 발생 또는 적절한 처리
+        // 이미 이 모임에 참여 중인지 먼저 확인
+        if (participantRepository.existsByMeetingIdAndUserId(meeting.getId(), userId)) {
             throw new ServiceLogicException(ExceptionCode.ALREADY_PARTICIPATING);
         }
 
-        // 이미 같은 날짜에 다른 모임에 참여 중인지 확인
-        boolean isParticipatingOnSameDate = userRepository.findMeetingsByUserId(user.getId()).stream()
-                .anyMatch(m -> m.getDate().equals(meeting.getDate()));
+        // 이미 같은 날짜에 다른 모임에 참여 중인지 확인 (동시에 같은 모임에 참여한 경우는 아래 유니크 제약으로 처리)
+        boolean isParticipatingOnSameDate = participantRepository.existsByUser_IdAndMeeting_DateAndMeeting_IdNot(userId, meeting.getDate(), meeting.getId());
 
         if (isParticipatingOnSameDate) {
             // 같은 날짜에 다른 모임에 이미 참여중인 경우 예외 발생
             throw new ServiceLogicException(ExceptionCode.ALREADY_PARTICIPATING_ON_DATE);
         }
 
+        // 참가자 수를 조건부로 증가시켜 자리를 먼저 잡음 (동시에 참여해도 모집 인원을 넘지 않음)
+        if (meetingRepository.reserveSeat(meeting.getId()) == 0) {
+            throw new ServiceLogicException(ExceptionCode.MEETING_FULL);
+        }
+
         Participant participant = Participant.builder()
                 .user(user)
                 .meeting(meeting)
                 .isLeader(false)
                 .build();
-        List<Participant> participants = meeting.getParticipant();
-        participants.add(participantRepository.save(participant));
+        try {
+            // 중복 참여는 (meeting_id, user_id) 유니크 제약으로 막음, 예외 시 예약한 자리도 함께 롤백
+            participantRepository.saveAndFlush(participant);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateParticipant(e)) {
+                throw new ServiceLogicException(ExceptionCode.ALREADY_PARTICIPATING);
+            }
+            // 그 외는 user_id 외래키 위반 (토큰의 id 로 참조만 만들었으므로 없는 유저)
+            throw new ServiceLogicException(ExceptionCode.USER_NOT_FOUND);
+        }
 
         return participant;
     }
 
+    // (meeting_id, user_id) 유니크 제약 위반인지 확인 (DB 마다 예외 종류가 달라서 메시지의 제약 이름으로 확인)
+    private static boolean isDuplicateParticipant(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.toLowerCase().contains("uk_participant_meeting_user")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    @Transactional
+    public void leaveMeeting(Long id, Long userId) {
+        Participant participant = participantRepository.findByMeetingIdAndUserId(id, userId)
+                .orElseThrow(() -> new ServiceLogicException(ExceptionCode.PARTICIPANT_NOT_FOUND));
+
+        // 모임장은 탈퇴 대신 모임 삭제
+        if (participant.isLeader()) {
+            throw new ServiceLogicException(ExceptionCode.LEADER_CANNOT_LEAVE);
+        }
+
+        participant.getMeeting().getParticipant().remove(participant);
+        participantRepository.delete(participant);
+        meetingRepository.decreaseParticipantCount(id);
+    }
+
     @Override
     public Page<MeetingResponseDto> getAllMeetings(Pageable pageable){
 
@@ -188,17 +223,19 @@ public class MeetingServiceImpl implements MeetingService {
 
     @Override
     @Transactional
-    public MeetingResponseDto updateMeeting(String email, Long id, MeetingDto meetingDto) {
+    public MeetingResponseDto updateMeeting(Long userId, Long id, MeetingDto meetingDto) {
         Meeting meeting = meetingRepository.findById(id)
                 .orElseThrow(() -> new ServiceLogicException(ExceptionCode.MEETING_NOT_FOUND));
         Category category = categoryRepository.findByName(meetingDto.getCategoryName())
                 .orElseThrow(() -> new ServiceLogicException(ExceptionCode.CATEGORY_NOT_FOUND));
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ServiceLogicException(ExceptionCode.USER_NOT_FOUND));
 
-        if (!Objects.equals(user.getId(), meeting.getLeader().getId())){
+        if (!Objects.equals(userId, meeting.getLeader().getId())){
             throw new ServiceLogicException(ExceptionCode.USER_NOT_LEADER);
         }
+        // 이미 참여한 인원보다 적게 줄일 수 없음
+        if (meetingRepository.updateHeadcount(id, meetingDto.getHeadcount()) == 0) {
+            throw new ServiceLogicException(ExceptionCode.HEADCOUNT_BELOW_PARTICIPANTS);
+        }
 
         MultipartFile imageFile = meetingDto.getImageFile();
         String imageUrl = meetingDto.getImage();
@@ -220,28 +257,26 @@ public class MeetingServiceImpl implements MeetingService {
 
         meetingRepository.save(meeting);
 
-        Set<MeetingTag> meetingTags = new HashSet<>();
-        meetingTagRepository.deleteByMeeting(meeting);
-        for (String tagName : meetingDto.getTags()) {
-            Tag tag = tagRepository.findByName(tagName)
-                    .orElseGet(() -> tagRepository.save(Tag.builder()
-                            .name(tagName)
-                            .build()));
-            MeetingTag meetingTag = MeetingTag.builder()
+        // 기존 태그와 비교해서 빠진 태그만 삭제(orphanRemoval), 새로운 태그만 추가
+        Map<Long, Tag> newTags = new LinkedHashMap<>();
+        for (Tag tag : tagService.resolveTags(meetingDto.getTags())) {
+            newTags.put(tag.getId(), tag);
+        }
+        Set<MeetingTag> meetingTags = meeting.getMeetingTags();
+        meetingTags.removeIf(meetingTag -> newTags.remove(meetingTag.getTag().getId()) == null);
+        for (Tag tag : newTags.values()) {
+            meetingTags.add(MeetingTag.builder()
                     .tag(tag)
                     .meeting(meeting)
-                    .build();
-            meetingTags.add(meetingTagRepository.save(meetingTag));
+                    .build());
         }
 
-        meeting.setMeetingTags(meetingTags);
-
         return convertToDto(meetingRepository.save(meeting));
     }
 
     @Override
-    public void deleteMeeting(String email, Long id) {
-        User user = userRepository.findByEmail(email)
+    public void deleteMeeting(Long userId, Long id) {
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ServiceLogicException(ExceptionCode.USER_NOT_FOUND));
         Meeting meeting = meetingRepository.findById(id)
                 .orElseThrow(() -> new ServiceLogicException(ExceptionCode.MEETING_NOT_FOUND));
@@ -300,54 +335,68 @@ public class MeetingServiceImpl implements MeetingService {
     }
 
     @Override
-    public Page<MeetingResponseDto> getAllMeetingsByParticipantCountNoOffset(Long lastId, int size) {
-        Page<Meeting> meetings;
-        if (lastId == null) {
-            // lastId가 제공되지 않은 경우, 가장 최근 데이터부터 시작
-            meetings = meetingRepository.findAllByParticipantCount(PageRequest.of(0, size, Sort.by("id").descending()));
+    public Slice<MeetingResponseDto> getAllMeetingsByParticipantCountNoOffset(Integer lastCount, Long lastId, int size) {
+        Slice<Meeting> meetings;
+        if (lastCount == null || lastId == null) {
+            // 커서가 제공되지 않은 경우 참가자 수가 가장 많은 모임부터 시작
+            meetings = meetingRepository.findAllByParticipantCount(PageRequest.of(0, size));
         } else {
-            meetings = meetingRepository.findAllByParticipantCountAndIdLessThan(lastId, PageRequest.of(0, size, Sort.by("id").descending()));
+            // 마지막 모임의 (참가자 수, id) 다음부터 조회
+            meetings = meetingRepository.findAllByParticipantCountAfter(lastCount, lastId, PageRequest.of(0, size));
         }
         return meetings.map(this::convertToDto);
     }
 
 
     @Override
-    public Page<MeetingResponseDto> getMyMeetings(String email, Pageable pageable){
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ServiceLogicException(ExceptionCode.USER_NOT_FOUND));
-
-        Page<Meeting> meetings = meetingRepository.findMeetingsByParticipantUserId(user.getId(), pageable);
+    public Page<MeetingResponseDto> getMyMeetings(Long userId, Pageable pageable){
+        Page<Meeting> meetings = meetingRepository.findMeetingsByParticipantUserId(userId, pageable);
         return meetings.map(this::convertToDto);
     }
 
     @Override
-    public Page<MeetingResponseDto> getMyMeetingsNoOffset(Long lastId, int size, String email){
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ServiceLogicException(ExceptionCode.USER_NOT_FOUND));
+    public Page<MeetingResponseDto> getMyMeetingsNoOffset(Long lastId, int size, Long userId){
         Page<Meeting> meetings;
         if (lastId == null) {
             // lastId가 제공되지 않은 경우, 가장 최근 데이터부터 시작
-            meetings = meetingRepository.findMeetingsByParticipantUserId(user.getId(), PageRequest.of(0, size, Sort.by("id").descending()));
+            meetings = meetingRepository.findMeetingsByParticipantUserId(userId, PageRequest.of(0, size, Sort.by("id").descending()));
         } else {
-            meetings = meetingRepository.findMeetingsByParticipantUserIdAndIdLessThan(user.getId(),lastId, PageRequest.of(0, size, Sort.by("id").descending()));
+            meetings = meetingRepository.findMeetingsByParticipantUserIdAndIdLessThan(userId,lastId, PageRequest.of(0, size, Sort.by("id").descending()));
         }
         return meetings.map(this::convertToDto);
     }
 
     @Override
-    public List<ParticipantDto> endMeeting(String email, Long id) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ServiceLogicException(ExceptionCode.USER_NOT_FOUND));
+    @Transactional
+    public List<ParticipantDto> endMeeting(Long userId, Long id) {
         Meeting meeting = meetingRepository.findById(id)
                 .orElseThrow(() -> new ServiceLogicException(ExceptionCode.MEETING_NOT_FOUND));
+        // 모임장만 종료할 수 있음 (종료하면 참가자 챌린지 진행도가 오르므로)
+        if (!Objects.equals(userId, meeting.getLeader().getId())) {
+            throw new ServiceLogicException(ExceptionCode.USER_NOT_LEADER);
+        }
+
+        List<ParticipantDto> participants = participantsDtoMapper.toDtoList(meeting.getParticipant());
 
-//        meeting.setEnd(true);
-//
-//        meetingRepository.save(meeting);
+        // 이미 종료된 모임이면 참가자 목록만 반환 (진행도가 다시 오르지 않도록 처음 종료할 때만 이벤트 저장)
+        if (meetingRepository.markEnded(id) == 0) {
+            return participants;
+        }
 
-        return participantsDtoMapper.toDtoList(meeting.getParticipant());
+        // 참가자들의 챌린지 진행도와 랭킹은 OutboxEventConsumer 가 비동기로 반영 (이벤트는 이 트랜잭션에서 같이 저장)
+        outboxEventService.publishMeetingJoined(id, participants.stream()
+                .map(ParticipantDto::getUserId)
+                .collect(Collectors.toList()));
 
+        return participants;
+
+    }
+
+    // 참가자 수 보정 (동시성 문제나 직접 수정된 데이터 대비), 실행은 ParticipantCountSyncJob
+    @Override
+    @Transactional
+    public void syncParticipantCounts() {
+        meetingRepository.syncParticipantCounts();
     }
 
     public MeetingResponseDto convertToDto(Meeting meeting) {
@@ -358,6 +407,7 @@ public class MeetingServiceImpl implements MeetingService {
         meetingDto.setMountainName(meeting.getMountainName()); // 산 이름 설정
         meetingDto.setDescription(meeting.getDescription()); // 설명 설정
         meetingDto.setHeadcount(meeting.getHeadcount()); // 인원 수 설정
+        meetingDto.setParticipantCount(meeting.getParticipantCount()); // 참가자 수 설정
         meetingDto.setDate(meeting.getDate()); // 날짜 설정
         meetingDto.setImage(meeting.getImage()); // 이미지 설정
 
@@ -0,0 +1,43 @@
+package com.example.santa.domain.meeting.service;
+
+import com.example.santa.global.util.RedisUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/*
+ * 모임 참가자 수(participant_count) 보정
+ * 컬럼이 추가되기 전 모임은 0 으로 채워지므로 서버가 뜰 때 한 번, 이후 매일 0시 10분에 실행한다.
+ * 여러 서버가 같이 실행하지 않도록 Redis 락을 잡은 서버만 실행하고, 락은 풀지 않고 만료되게 둔다.
+ * (조금 늦게 실행된 서버가 다시 잡지 않도록)
+ */
+@Slf4j
+@Component
+public class ParticipantCountSyncJob {
+
+    private static final String LOCK_KEY = "lock:meeting:participant-count";
+    private static final long LOCK_SECONDS = 5 * 60;
+
+    private final MeetingService meetingService;
+    private final RedisUtil redisUtil;
+
+    public ParticipantCountSyncJob(MeetingService meetingService, RedisUtil redisUtil) {
+        this.meetingService = meetingService;
+        this.redisUtil = redisUtil;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 10 0 * * *") // 매일 0시 10분에 실행
+    public void sync() {
+        if (!redisUtil.tryLock(LOCK_KEY, UUID.randomUUID().toString(), LOCK_SECONDS)) {
+            log.info("participant count sync skipped : running on another instance");
+            return;
+        }
+        meetingService.syncParticipantCounts();
+        log.info("participant counts synced");
+    }
+}
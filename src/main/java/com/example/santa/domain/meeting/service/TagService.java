@@ -0,0 +1,11 @@
+package com.example.santa.domain.meeting.service;
+
+import com.example.santa.domain.meeting.entity.Tag;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TagService {
+
+    List<Tag> resolveTags(Collection<String> tagNames);
+}
@@ -0,0 +1,115 @@
+package com.example.santa.domain.meeting.service;
+
+import com.example.santa.domain.meeting.entity.Tag;
+import com.example.santa.domain.meeting.repository.TagRepository;
+import com.example.santa.global.exception.ExceptionCode;
+import com.example.santa.global.exception.ServiceLogicException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.transaction.Transactional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/*
+ * 태그 이름 -> 태그 변환
+ * 1. 자주 쓰는 태그는 메모리 캐시(name -> id)에서 바로 찾음
+ * 2. 캐시에 없는 이름은 IN 쿼리 한 번으로 조회
+ * 3. DB 에도 없는 이름은 INSERT ... ON DUPLICATE KEY UPDATE 배치로 한 번에 생성 (동시에 같은 태그를 만들어도 유니크 제약으로 하나만 생성)
+ * MySQL 은 대소문자/악센트를 구분하지 않고 비교하므로 ("Hiking" = "hiking") 캐시와 조회 결과는 같은 기준으로 만든 키(nameKey)로 맞춘다.
+ */
+@Service
+public class TagServiceImpl implements TagService {
+
+    // 이미 있는 태그는 그대로 두고, 길이 초과 같은 데이터 오류는 예외로 드러나도록 INSERT IGNORE 는 사용하지 않음
+    private static final String INSERT_TAG_SQL = "INSERT INTO tag (name) VALUES (?) ON DUPLICATE KEY UPDATE name = name";
+
+    private final TagRepository tagRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<String, Long> tagIdCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .build();
+
+    public TagServiceImpl(TagRepository tagRepository, JdbcTemplate jdbcTemplate) {
+        this.tagRepository = tagRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional
+    @Override
+    public List<Tag> resolveTags(Collection<String> tagNames) {
+        // 공백 제거 + 중복 제거 (키 기준, 입력 순서와 처음 입력한 표기 유지)
+        Map<String, String> names = new LinkedHashMap<>();
+        if (tagNames != null) {
+            for (String tagName : tagNames) {
+                if (tagName != null && !tagName.isBlank()) {
+                    names.putIfAbsent(nameKey(tagName.trim()), tagName.trim());
+                }
+            }
+        }
+        if (names.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<String, Long> tagIds = new HashMap<>(tagIdCache.getAllPresent(names.keySet()));
+
+        List<String> misses = names.keySet().stream().filter(key -> !tagIds.containsKey(key)).map(names::get).toList();
+        if (!misses.isEmpty()) {
+            for (Tag tag : tagRepository.findByNameIn(misses)) {
+                tagIds.put(nameKey(tag.getName()), tag.getId());
+                tagIdCache.put(nameKey(tag.getName()), tag.getId());
+            }
+        }
+
+        List<String> newNames = names.keySet().stream().filter(key -> !tagIds.containsKey(key)).map(names::get).toList();
+        if (!newNames.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_TAG_SQL, newNames, newNames.size(),
+                    (ps, name) -> ps.setString(1, name));
+            // 다른 트랜잭션이 먼저 만든 태그도 보이도록 잠금 조회
+            Map<String, Long> created = new HashMap<>();
+            for (Tag tag : tagRepository.findByNameInForShare(newNames)) {
+                created.put(nameKey(tag.getName()), tag.getId());
+            }
+            tagIds.putAll(created);
+            cacheAfterCommit(created);
+        }
+
+        List<Tag> tags = new ArrayList<>();
+        for (Map.Entry<String, String> name : names.entrySet()) {
+            Long tagId = tagIds.get(name.getKey());
+            if (tagId == null) {
+                // 키로 맞추지 못한 이름 (DB 정렬 규칙과 다르게 비교된 경우) 은 DB 비교 그대로 한 건 조회
+                tagId = tagRepository.findByName(name.getValue())
+                        .orElseThrow(() -> new ServiceLogicException(ExceptionCode.TAG_NOT_FOUND))
+                        .getId();
+            }
+            tags.add(tagRepository.getReferenceById(tagId));
+        }
+        return tags;
+    }
+
+    // 대소문자, 악센트 구분 없는 비교 키
+    static String nameKey(String name) {
+        return Normalizer.normalize(name, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    // 새로 만든 태그는 롤백될 수 있으므로 커밋 후에 캐시
+    private void cacheAfterCommit(Map<String, Long> created) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            tagIdCache.putAll(created);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tagIdCache.putAll(created);
+            }
+        });
+    }
+}
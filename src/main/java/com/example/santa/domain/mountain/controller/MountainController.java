@@ -1,11 +1,17 @@
 package com.example.santa.domain.mountain.controller;
 
 import com.example.santa.domain.challege.dto.ChallengeResponseDto;
+import com.example.santa.domain.mountain.dto.MountainDistanceDto;
+import com.example.santa.domain.mountain.dto.MountainImportResultDto;
 import com.example.santa.domain.mountain.dto.MountainResponseDto;
+import com.example.santa.domain.mountain.service.MountainImportService;
 import com.example.santa.domain.mountain.service.MountainService;
 import com.example.santa.domain.usermountain.dto.UserMountainResponseDto;
 import com.example.santa.domain.usermountain.dto.UserMountainVerifyRequestDto;
 import com.example.santa.domain.usermountain.service.UserMountainService;
+import com.example.santa.global.exception.ExceptionCode;
+import com.example.santa.global.exception.ServiceLogicException;
+import com.example.santa.global.security.UserPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -16,11 +22,17 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -29,6 +41,7 @@ public class MountainController {
 
     private final MountainService mountainService;
     private final UserMountainService userMountainService;
+    private final MountainImportService mountainImportService;
 
     @Operation(summary = "산 전체 조회 기능", description = "산 전체 조회 기능")
     @ApiResponses(value = {
@@ -40,6 +53,18 @@ public class MountainController {
         return ResponseEntity.ok(mountains); //리소스사용감소 스태틱메서드
 
     }
+    @Operation(summary = "내 주변 산 조회 기능", description = "현재 위치에서 반경(km) 안의 산을 가까운 순으로 최대 k개 조회 (거리 포함)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = MountainDistanceDto.class)))})
+    @GetMapping("/nearby")
+    public ResponseEntity<List<MountainDistanceDto>> getNearbyMountains(@RequestParam(name = "lat") double latitude,
+                                                                        @RequestParam(name = "lon") double longitude,
+                                                                        @RequestParam(defaultValue = "10") int k,
+                                                                        @RequestParam(defaultValue = "20") double radius){
+        List<MountainDistanceDto> mountains = mountainService.findNearbyMountains(latitude, longitude, k, radius);
+        return ResponseEntity.ok(mountains);
+    }
+
     @Operation(summary = "산 개별 조회 기능", description = "산 개별 조회 기능")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = MountainResponseDto.class)))})
@@ -54,12 +79,28 @@ public class MountainController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = UserMountainResponseDto.class)))})
     @PostMapping("/verify")
-    public ResponseEntity<UserMountainResponseDto> createUserMountain(@AuthenticationPrincipal String email, @RequestBody UserMountainVerifyRequestDto request) {
-        UserMountainResponseDto userMountain = userMountainService.verifyAndCreateUserMountain(request, email);
+    public ResponseEntity<UserMountainResponseDto> createUserMountain(@AuthenticationPrincipal UserPrincipal principal, @RequestBody UserMountainVerifyRequestDto request) {
+        UserMountainResponseDto userMountain = userMountainService.verifyAndCreateUserMountain(request, principal.getId());
 
         return ResponseEntity.ok(userMountain);
     }
 
+    @Operation(summary = "*관리자* 산 정상 좌표 일괄 반영 기능", description = "etc/mountainData 의 정상 좌표 INSERT 문 파일 업로드 (이름이 같은 등록된 산의 좌표만 바꾸고, 새 산은 등록하지 않음)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = MountainImportResultDto.class)))})
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<MountainImportResultDto> importMountains(@RequestParam("file") MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new ServiceLogicException(ExceptionCode.EMPTY_FILE);
+        }
+        try (InputStream inputStream = file.getInputStream()) {
+            return ResponseEntity.ok(mountainImportService.importSummits(inputStream));
+        } catch (IOException e) {
+            throw new ServiceLogicException(ExceptionCode.IO_EXCEPTION_ON_MOUNTAIN_IMPORT);
+        }
+    }
+
 
 }
 //    @Operation(summary = "등산 인증 기능(유저 마운틴 등록)", description = "등산 인증 기능(유저 마운틴 등록)")
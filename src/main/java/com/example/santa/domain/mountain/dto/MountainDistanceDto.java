@@ -0,0 +1,21 @@
+package com.example.santa.domain.mountain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class MountainDistanceDto {
+    private Long id;
+    private String name;
+    private String location;
+    private double height;
+    private double latitude;
+    private double longitude;
+    // 요청 위치로부터의 거리(km)
+    private double distance;
+}
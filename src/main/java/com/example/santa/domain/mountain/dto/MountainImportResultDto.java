@@ -0,0 +1,31 @@
+package com.example.santa.domain.mountain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class MountainImportResultDto {
+    // 읽은 줄 수
+    private long readLines;
+    // 형식이 맞지 않아 건너뛴 줄 수
+    private long invalidRows;
+    // 이름이 같은 등록된 산이 없어 건너뛴 줄 수
+    private long unmatchedRows;
+    // 좌표를 바꾼 산 수
+    private long updatedMountains;
+    // 이미 같은 좌표라 그대로 둔 산 수
+    private long unchangedMountains;
+    // 좌표가 없는데 같은 이름의 정상이 여러 개라 그대로 둔 산 id (직접 확인 필요)
+    private List<Long> ambiguousMountainIds;
+    // 같은 이름의 정상이 모두 등록된 좌표에서 너무 멀어서 그대로 둔 산 수
+    private long outOfRangeMountains;
+    private long elapsedMillis;
+    private long rowsPerSecond;
+}
@@ -0,0 +1,20 @@
+package com.example.santa.domain.mountain.event;
+
+// 산 데이터(mountains 테이블)가 변경되었을 때 발행, 산 위치 인덱스/캐시를 다시 만든다
+// remote : 다른 서버에서 바뀐 것을 pub/sub 으로 전달받은 경우 (다시 알리지 않음)
+public class MountainCatalogChangedEvent {
+
+    private final boolean remote;
+
+    public MountainCatalogChangedEvent() {
+        this(false);
+    }
+
+    public MountainCatalogChangedEvent(boolean remote) {
+        this.remote = remote;
+    }
+
+    public boolean isRemote() {
+        return remote;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.santa.domain.mountain.service;
+
+import com.example.santa.domain.mountain.event.MountainCatalogChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/*
+ * 산 데이터 변경 알림을 다른 서버로 전달
+ * 이 서버에서 MountainCatalogChangedEvent 가 발행되면 Redis pub/sub 으로 알리고,
+ * 다른 서버의 알림을 받으면 remote 이벤트로 다시 발행해서 산 위치 인덱스와 캐시가 모든 서버에서 다시 만들어지게 한다.
+ */
+@Slf4j
+@Component
+public class MountainCatalogChangeRelay implements MessageListener {
+
+    private static final String CHANNEL = "mountain:catalog:changed";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    // 내가 보낸 알림은 무시하기 위한 서버 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public MountainCatalogChangeRelay(StringRedisTemplate stringRedisTemplate, ApplicationEventPublisher eventPublisher, RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.eventPublisher = eventPublisher;
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @EventListener
+    public void publish(MountainCatalogChangedEvent event) {
+        if (event.isRemote()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, nodeId);
+        } catch (RuntimeException e) {
+            // 알림 실패 시 다른 서버는 재시작 전까지 이전 산 데이터를 사용하므로 로그로 남김
+            log.warn("mountain catalog change publish failed", e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String sender = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (!nodeId.equals(sender)) {
+            eventPublisher.publishEvent(new MountainCatalogChangedEvent(true));
+        }
+    }
+}
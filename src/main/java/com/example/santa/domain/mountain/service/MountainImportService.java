@@ -0,0 +1,9 @@
+package com.example.santa.domain.mountain.service;
+
+import com.example.santa.domain.mountain.dto.MountainImportResultDto;
+
+import java.io.InputStream;
+
+public interface MountainImportService {
+    MountainImportResultDto importSummits(InputStream inputStream);
+}
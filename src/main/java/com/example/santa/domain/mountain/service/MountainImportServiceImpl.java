@@ -0,0 +1,259 @@
+package com.example.santa.domain.mountain.service;
+
+import com.example.santa.domain.mountain.dto.MountainImportResultDto;
+import com.example.santa.domain.mountain.event.MountainCatalogChangedEvent;
+import com.example.santa.global.exception.ExceptionCode;
+import com.example.santa.global.exception.ServiceLogicException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * 산 정상 좌표 일괄 반영 (etc/mountainData 의 tableb INSERT 문 파일)
+ * 파일을 한 줄씩 읽어서 도-분-초 좌표를 십진수로 바꾸고, 이름이 같은 mountains 행의 좌표를 UPDATE 한다.
+ * (예전에 손으로 돌리던 tableb -> mountains UPDATE JOIN 과 같은 역할, 새 산은 등록하지 않음)
+ * 파일에는 높이가 없어서 새로 넣으면 높이 0 인 산이 인증/랭킹에 잡히므로 등록된 산의 좌표만 바꾼다.
+ * 같은 이름의 정상이 여러 개면 지금 좌표에서 MAX_MOVE_KM 안의 가장 가까운 것을 쓰고, 더 먼 정상으로는 옮기지 않는다.
+ * 좌표가 없는 산(0, 0)은 같은 이름의 정상이 하나일 때만 반영하고, 여러 개면 고르지 않고 결과에 따로 알려준다.
+ * 같은 파일을 다시 넣으면 이미 같은 좌표라 바뀌는 행이 없다. 변경은 1000건씩 JDBC 배치 UPDATE (청크마다 트랜잭션)
+ */
+@Slf4j
+@Service
+public class MountainImportServiceImpl implements MountainImportService {
+
+    private static final int CHUNK_SIZE = 1000;
+    // 등록된 좌표에서 이보다 먼 같은 이름의 정상은 다른 산으로 봄 (예: 여러 지역에 있는 봉화산)
+    static final double MAX_MOVE_KM = 5;
+    private static final String UPDATE_COORDINATE_SQL = "UPDATE mountains SET latitude = ?, longitude = ? WHERE id = ?";
+    // VALUES ('1', '가제산', '128-04-57.91', '35-59-28.71') -> 번호, 이름, 경도, 위도
+    private static final Pattern VALUES_PATTERN = Pattern.compile(
+            "VALUES\\s*\\(\\s*'[^']*'\\s*,\\s*'([^']+)'\\s*,\\s*'([^']+)'\\s*,\\s*'([^']+)'\\s*\\)", Pattern.CASE_INSENSITIVE);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public MountainImportServiceImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public MountainImportResultDto importSummits(InputStream inputStream) {
+        if (!running.compareAndSet(false, true)) {
+            throw new ServiceLogicException(ExceptionCode.MOUNTAIN_IMPORT_IN_PROGRESS);
+        }
+        try {
+            return doImport(inputStream);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private MountainImportResultDto doImport(InputStream inputStream) {
+        long start = System.nanoTime();
+        long readLines = 0;
+        long invalidRows = 0;
+        long unmatchedRows = 0;
+
+        // 이름 -> 등록된 산 목록
+        Map<String, List<Target>> targets = loadRegisteredMountains();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                readLines++;
+                Object[] row = parseLine(line);
+                if (row == null) {
+                    invalidRows++;
+                    continue;
+                }
+                List<Target> sameName = targets.get((String) row[0]);
+                if (sameName == null) {
+                    unmatchedRows++;
+                    continue;
+                }
+                for (Target target : sameName) {
+                    target.offer((double) row[1], (double) row[2]);
+                }
+            }
+        } catch (IOException e) {
+            throw new ServiceLogicException(ExceptionCode.IO_EXCEPTION_ON_MOUNTAIN_IMPORT);
+        }
+
+        List<Target> changed = new ArrayList<>();
+        List<Long> ambiguousIds = new ArrayList<>();
+        long unchangedMountains = 0;
+        long outOfRangeMountains = 0;
+        for (List<Target> sameName : targets.values()) {
+            for (Target target : sameName) {
+                if (target.ambiguous()) {
+                    ambiguousIds.add(target.id);
+                } else if (target.changed()) {
+                    changed.add(target);
+                } else if (target.hasCandidate()) {
+                    unchangedMountains++;
+                } else if (target.outOfRange) {
+                    outOfRangeMountains++;
+                }
+            }
+        }
+        if (!ambiguousIds.isEmpty()) {
+            log.info("mountain import : same name summits for mountains without position, not updated {}", ambiguousIds);
+        }
+
+        long updatedMountains = 0;
+        for (int from = 0; from < changed.size(); from += CHUNK_SIZE) {
+            updatedMountains += updateChunk(changed.subList(from, Math.min(from + CHUNK_SIZE, changed.size())));
+        }
+
+        if (updatedMountains > 0) {
+            eventPublisher.publishEvent(new MountainCatalogChangedEvent());
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        long rowsPerSecond = readLines * 1000 / elapsedMillis;
+        log.info("mountain import : read {}, updated {}, unchanged {}, ambiguous {}, out of range {}, unmatched {}, invalid {}, {} ms ({} rows/s)",
+                readLines, updatedMountains, unchangedMountains, ambiguousIds.size(), outOfRangeMountains, unmatchedRows, invalidRows, elapsedMillis, rowsPerSecond);
+        return new MountainImportResultDto(readLines, invalidRows, unmatchedRows, updatedMountains, unchangedMountains,
+                ambiguousIds, outOfRangeMountains, elapsedMillis, rowsPerSecond);
+    }
+
+    private Map<String, List<Target>> loadRegisteredMountains() {
+        Map<String, List<Target>> targets = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name, latitude, longitude FROM mountains", rs -> {
+            String name = rs.getString("name");
+            if (name != null) {
+                targets.computeIfAbsent(name.trim(), key -> new ArrayList<>())
+                        .add(new Target(rs.getLong("id"), rs.getDouble("latitude"), rs.getDouble("longitude")));
+            }
+        });
+        return targets;
+    }
+
+    private int updateChunk(List<Target> rows) {
+        Integer updated = transactionTemplate.execute(status -> {
+            jdbcTemplate.batchUpdate(UPDATE_COORDINATE_SQL, rows, rows.size(), (ps, target) -> {
+                ps.setDouble(1, target.latitude);
+                ps.setDouble(2, target.longitude);
+                ps.setLong(3, target.id);
+            });
+            return rows.size();
+        });
+        return updated == null ? 0 : updated;
+    }
+
+    // 등록된 산 하나와 파일에서 고른 좌표
+    static class Target {
+        private final long id;
+        private final double currentLatitude;
+        private final double currentLongitude;
+        private double latitude;
+        private double longitude;
+        private double distance = Double.MAX_VALUE;
+        // 좌표가 없는 산의 같은 이름 정상 수
+        private int candidates;
+        // 같은 이름의 정상이 있지만 모두 MAX_MOVE_KM 보다 먼 경우
+        private boolean outOfRange;
+
+        Target(long id, double currentLatitude, double currentLongitude) {
+            this.id = id;
+            this.currentLatitude = currentLatitude;
+            this.currentLongitude = currentLongitude;
+        }
+
+        // 좌표가 없는 산(0, 0)은 유일한 후보만, 있으면 지금 좌표에서 MAX_MOVE_KM 안의 가장 가까운 좌표
+        void offer(double latitude, double longitude) {
+            if (!hasPosition()) {
+                if (++candidates == 1) {
+                    select(latitude, longitude, 0);
+                }
+                return;
+            }
+            double candidateDistance = MountainSpatialIndex.distance(currentLatitude, currentLongitude, latitude, longitude);
+            if (candidateDistance > MAX_MOVE_KM) {
+                outOfRange = true;
+                return;
+            }
+            if (candidateDistance < distance) {
+                select(latitude, longitude, candidateDistance);
+            }
+        }
+
+        private void select(double latitude, double longitude, double distance) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.distance = distance;
+        }
+
+        boolean hasPosition() {
+            return currentLatitude != 0 || currentLongitude != 0;
+        }
+
+        boolean hasCandidate() {
+            return distance != Double.MAX_VALUE;
+        }
+
+        // 좌표가 없는데 같은 이름의 정상이 여러 개라 고를 수 없음
+        boolean ambiguous() {
+            return !hasPosition() && candidates > 1;
+        }
+
+        boolean changed() {
+            return hasCandidate() && !ambiguous() && (latitude != currentLatitude || longitude != currentLongitude);
+        }
+    }
+
+    // 한 줄 -> {이름, 위도, 경도}, 형식이 틀리면 null
+    static Object[] parseLine(String line) {
+        Matcher matcher = VALUES_PATTERN.matcher(line);
+        if (!matcher.find()) {
+            return null;
+        }
+        String name = matcher.group(1).trim();
+        Double longitude = parseDms(matcher.group(2));
+        Double latitude = parseDms(matcher.group(3));
+        if (name.isEmpty() || latitude == null || longitude == null
+                || Math.abs(latitude) > 90 || Math.abs(longitude) > 180) {
+            return null;
+        }
+        return new Object[]{name, latitude, longitude};
+    }
+
+    // 도-분-초 ("128-04-57.91") -> 십진수 도 (128.0827...)
+    static Double parseDms(String dms) {
+        String[] parts = dms.trim().split("-");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            double degree = Double.parseDouble(parts[0]);
+            double minute = Double.parseDouble(parts[1]);
+            double second = Double.parseDouble(parts[2]);
+            if (minute < 0 || minute >= 60 || second < 0 || second >= 60) {
+                return null;
+            }
+            return degree + minute / 60 + second / 3600;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
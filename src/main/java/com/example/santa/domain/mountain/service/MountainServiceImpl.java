@@ -4,8 +4,10 @@ import com.example.santa.domain.category.entity.Category;
 import com.example.santa.domain.category.repository.CategoryRepository;
 import com.example.santa.domain.challege.entity.Challenge;
 import com.example.santa.domain.challege.repository.ChallengeRepository;
+import com.example.santa.domain.mountain.dto.MountainDistanceDto;
 import com.example.santa.domain.mountain.dto.MountainResponseDto;
 import com.example.santa.domain.mountain.entity.Mountain;
+import com.example.santa.domain.mountain.event.MountainCatalogChangedEvent;
 import com.example.santa.domain.mountain.repository.MountainRepository;
 import com.example.santa.domain.user.entity.User;
 import com.example.santa.domain.user.repository.UserRepository;
@@ -19,8 +21,11 @@ import com.example.santa.global.exception.ExceptionCode;
 import com.example.santa.global.exception.ServiceLogicException;
 import com.example.santa.global.util.mapsturct.MountainResponseDtoMapper;
 import com.example.santa.global.util.mapsturct.UserMountainResponseDtoMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -35,18 +40,57 @@ import java.util.Optional;
 public class MountainServiceImpl implements MountainService {
     private final MountainRepository mountainRepository;
     private final MountainResponseDtoMapper mountainResponseDtoMapper;
+    private final MountainSpatialIndex mountainSpatialIndex;
+
+    /*
+     * 산 데이터는 거의 바뀌지 않으므로 변환된 dto 와 페이지 결과를 메모리에 캐시
+     * 산 데이터가 바뀌면(MountainCatalogChangedEvent, 다른 서버에서 바뀐 경우 포함) 전부 비움
+     */
+    private final Cache<Long, MountainResponseDto> mountainCache = Caffeine.newBuilder()
+            .maximumSize(20_000)
+            .build();
+    private final Cache<String, Page<MountainResponseDto>> mountainPageCache = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .build();
+
+    // 한 번에 조회할 수 있는 최대 개수/반경(km)
+    private static final int MAX_NEARBY_COUNT = 50;
+    private static final double MAX_NEARBY_RADIUS = 100;
 
 
     @Override
     public Page<MountainResponseDto> findAllMountains(Pageable pageable){
-        Page<Mountain> mountains = mountainRepository.findAll(pageable);
-        return mountains.map(mountainResponseDtoMapper::toDto);
+        String key = pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort();
+        return mountainPageCache.get(key, k -> {
+            Page<MountainResponseDto> mountains = mountainRepository.findAll(pageable).map(mountainResponseDtoMapper::toDto);
+            mountains.forEach(mountain -> mountainCache.put(mountain.getId(), mountain));
+            return mountains;
+        });
     }
 
     @Override
     public MountainResponseDto findMountainById(Long id){
+        MountainResponseDto cached = mountainCache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
         Mountain mountain= mountainRepository.findById(id)
                 .orElseThrow(() -> new ServiceLogicException(ExceptionCode.MOUNTAIN_NOT_FOUND));
-        return mountainResponseDtoMapper.toDto(mountain);
+        MountainResponseDto mountainResponseDto = mountainResponseDtoMapper.toDto(mountain);
+        mountainCache.put(id, mountainResponseDto);
+        return mountainResponseDto;
+    }
+
+    @EventListener(MountainCatalogChangedEvent.class)
+    public void evictMountainCache() {
+        mountainCache.invalidateAll();
+        mountainPageCache.invalidateAll();
+    }
+
+    @Override
+    public List<MountainDistanceDto> findNearbyMountains(double latitude, double longitude, int k, double radius) {
+        int count = Math.max(0, Math.min(k, MAX_NEARBY_COUNT));
+        double range = Math.max(0, Math.min(radius, MAX_NEARBY_RADIUS));
+        return mountainSpatialIndex.findNearest(latitude, longitude, count, range);
     }
 }
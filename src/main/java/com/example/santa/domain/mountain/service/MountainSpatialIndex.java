@@ -0,0 +1,196 @@
+package com.example.santa.domain.mountain.service;
+
+import com.example.santa.domain.mountain.dto.MountainDistanceDto;
+import com.example.santa.domain.mountain.entity.Mountain;
+import com.example.santa.domain.mountain.event.MountainCatalogChangedEvent;
+import com.example.santa.domain.mountain.repository.MountainRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+/*
+ * 산 위치 인덱스 (메모리)
+ * 산 목록을 위도 순으로 정렬된 배열로 들고 있다가, 요청 위치의 위도 ± 반경 범위만 이진 탐색으로 잘라서 거리 계산
+ * 매 요청마다 전체 산에 대해 DB 에서 acos 계산을 하지 않기 위함
+ * 데이터는 시작 시 한 번 읽고, 산 데이터가 바뀌면(MountainCatalogChangedEvent) 새로 만든 스냅샷으로 통째로 교체
+ * 다른 서버에서 바뀐 경우도 MountainCatalogChangeRelay 가 같은 이벤트로 전달한다.
+ */
+@Slf4j
+@Component
+public class MountainSpatialIndex {
+
+    private static final double EARTH_RADIUS_KM = 6371;
+    // 위도 1도의 거리(km)
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    private final MountainRepository mountainRepository;
+    private volatile Snapshot snapshot = new Snapshot(new ArrayList<>());
+
+    public MountainSpatialIndex(MountainRepository mountainRepository) {
+        this.mountainRepository = mountainRepository;
+    }
+
+    @EventListener({ApplicationReadyEvent.class, MountainCatalogChangedEvent.class})
+    public void reload() {
+        load(mountainRepository.findAll());
+        log.info("mountain spatial index loaded : {}", snapshot.size());
+    }
+
+    public void load(List<Mountain> mountains) {
+        this.snapshot = new Snapshot(mountains);
+    }
+
+    // 반경(km) 안에서 가장 가까운 산
+    public Optional<MountainDistanceDto> findNearest(double latitude, double longitude, double radiusKm) {
+        Snapshot current = snapshot;
+        int nearest = -1;
+        double nearestDistance = Double.MAX_VALUE;
+
+        double latitudeRange = radiusKm / KM_PER_DEGREE;
+        double longitudeRange = longitudeRange(latitude, radiusKm);
+        int end = current.upperBound(latitude + latitudeRange);
+        for (int i = current.lowerBound(latitude - latitudeRange); i < end; i++) {
+            if (Math.abs(current.longitudes[i] - longitude) > longitudeRange) {
+                continue;
+            }
+            double distance = distance(latitude, longitude, current.latitudes[i], current.longitudes[i]);
+            if (distance < radiusKm && distance < nearestDistance) {
+                nearest = i;
+                nearestDistance = distance;
+            }
+        }
+        return nearest < 0 ? Optional.empty() : Optional.of(current.toDto(nearest, nearestDistance));
+    }
+
+    // 반경(km) 안에서 가까운 순으로 최대 k 개, 후보는 위도/경도 범위로 먼저 걸러내고 크기 k 의 힙으로 유지
+    public List<MountainDistanceDto> findNearest(double latitude, double longitude, int k, double radiusKm) {
+        Snapshot current = snapshot;
+        if (k <= 0) {
+            return new ArrayList<>();
+        }
+        // 가장 먼 후보가 맨 앞에 오도록 (거리 내림차순)
+        PriorityQueue<double[]> heap = new PriorityQueue<>(k + 1, (a, b) -> Double.compare(b[0], a[0]));
+
+        double latitudeRange = radiusKm / KM_PER_DEGREE;
+        double longitudeRange = longitudeRange(latitude, radiusKm);
+        int end = current.upperBound(latitude + latitudeRange);
+        for (int i = current.lowerBound(latitude - latitudeRange); i < end; i++) {
+            if (Math.abs(current.longitudes[i] - longitude) > longitudeRange) {
+                continue;
+            }
+            double distance = distance(latitude, longitude, current.latitudes[i], current.longitudes[i]);
+            if (distance >= radiusKm) {
+                continue;
+            }
+            if (heap.size() < k) {
+                heap.add(new double[]{distance, i});
+            } else if (distance < heap.peek()[0]) {
+                heap.poll();
+                heap.add(new double[]{distance, i});
+            }
+        }
+
+        List<double[]> candidates = new ArrayList<>(heap);
+        candidates.sort(Comparator.comparingDouble(candidate -> candidate[0]));
+        List<MountainDistanceDto> result = new ArrayList<>(candidates.size());
+        for (double[] candidate : candidates) {
+            result.add(current.toDto((int) candidate[1], candidate[0]));
+        }
+        return result;
+    }
+
+    public int size() {
+        return snapshot.size();
+    }
+
+    // 위도에 따라 경도 1도의 거리가 줄어들기 때문에 경도 범위는 cos(위도)로 나눔 (극 근처는 전체 범위)
+    static double longitudeRange(double latitude, double radiusKm) {
+        double cos = Math.cos(Math.toRadians(Math.min(Math.abs(latitude) + radiusKm / KM_PER_DEGREE, 90)));
+        return cos <= 1e-6 ? 360 : radiusKm / (KM_PER_DEGREE * cos);
+    }
+
+    // haversine 거리(km)
+    static double distance(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    // 한 번 만들면 바뀌지 않는 배열 묶음 (위도 오름차순)
+    static final class Snapshot {
+        final long[] ids;
+        final String[] names;
+        final String[] locations;
+        final double[] heights;
+        final double[] latitudes;
+        final double[] longitudes;
+
+        Snapshot(List<Mountain> mountains) {
+            List<Mountain> sorted = new ArrayList<>(mountains);
+            sorted.sort(Comparator.comparingDouble(Mountain::getLatitude));
+            int size = sorted.size();
+            ids = new long[size];
+            names = new String[size];
+            locations = new String[size];
+            heights = new double[size];
+            latitudes = new double[size];
+            longitudes = new double[size];
+            for (int i = 0; i < size; i++) {
+                Mountain mountain = sorted.get(i);
+                ids[i] = mountain.getId();
+                names[i] = mountain.getName();
+                locations[i] = mountain.getLocation();
+                heights[i] = mountain.getHeight();
+                latitudes[i] = mountain.getLatitude();
+                longitudes[i] = mountain.getLongitude();
+            }
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        // latitude 이상인 첫 번째 위치
+        int lowerBound(double latitude) {
+            int low = 0;
+            int high = latitudes.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (latitudes[mid] < latitude) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // latitude 보다 큰 첫 번째 위치
+        int upperBound(double latitude) {
+            int low = 0;
+            int high = latitudes.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (latitudes[mid] <= latitude) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        MountainDistanceDto toDto(int i, double distance) {
+            return new MountainDistanceDto(ids[i], names[i], locations[i], heights[i], latitudes[i], longitudes[i], distance);
+        }
+    }
+}
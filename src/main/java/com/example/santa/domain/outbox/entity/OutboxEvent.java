@@ -0,0 +1,46 @@
+package com.example.santa.domain.outbox.entity;
+
+import com.example.santa.domain.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/*
+ * 트랜잭션 아웃박스
+ * 요청 트랜잭션에서는 이벤트만 같이 저장하고 챌린지/랭킹 반영은 OutboxEventConsumer 가 나중에 처리한다.
+ * processedAt 이 채워진 이벤트는 다시 처리하지 않는다. (이벤트 id 단위로 한 번만 반영)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Setter
+@Entity
+@Table(name = "outbox_event", indexes = @Index(name = "idx_outbox_event_processed_id", columnList = "processed_at, id"))
+public class OutboxEvent extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxEventType eventType;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    private Long categoryId;
+
+    // 등산일 (기간 랭킹 점수를 넣을 기간)
+    private LocalDate eventDate;
+
+    // 등산한 산의 높이 (Mountain.height 그대로)
+    private double height;
+
+    private int attempts;
+
+    private LocalDateTime processedAt;
+}
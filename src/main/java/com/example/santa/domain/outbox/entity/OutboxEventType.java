@@ -0,0 +1,8 @@
+package com.example.santa.domain.outbox.entity;
+
+public enum OutboxEventType {
+    // 등산 인증 (누적 높이, 챌린지 진행도, 랭킹 점수)
+    CLIMB_VERIFIED,
+    // 모임 참여 완료 (챌린지 진행도, 랭킹 점수)
+    MEETING_JOINED
+}
@@ -0,0 +1,40 @@
+package com.example.santa.domain.outbox.repository;
+
+import com.example.santa.domain.outbox.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 처리 안 된 이벤트를 잠그고 가져옴, 다른 워커(서버)가 잠근 행은 건너뜀
+    @Query(value = "SELECT * FROM outbox_event WHERE processed_at IS NULL AND attempts < :maxAttempts " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> findPendingForUpdate(@Param("maxAttempts") int maxAttempts, @Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM outbox_event WHERE id = :id AND processed_at IS NULL FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<OutboxEvent> findPendingByIdForUpdate(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.processedAt = :now WHERE e.id IN :ids")
+    int markProcessed(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1 WHERE e.id = :id")
+    int increaseAttempts(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+
+    long countByProcessedAtIsNull();
+
+    Optional<OutboxEvent> findFirstByProcessedAtIsNullOrderByIdAsc();
+}
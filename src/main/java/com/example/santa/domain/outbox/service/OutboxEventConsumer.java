@@ -0,0 +1,216 @@
+package com.example.santa.domain.outbox.service;
+
+import com.example.santa.domain.outbox.entity.OutboxEvent;
+import com.example.santa.domain.outbox.entity.OutboxEventType;
+import com.example.santa.domain.outbox.repository.OutboxEventRepository;
+import com.example.santa.domain.rank.service.PeriodRankingService;
+import com.example.santa.domain.rank.service.RankingService;
+import com.example.santa.domain.user.repository.UserRepository;
+import com.example.santa.domain.user.service.UserCacheService;
+import com.example.santa.domain.userchallenge.service.UserChallengeService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * 아웃박스 이벤트 처리
+ * 워커 여러 개가 각자 배치를 SKIP LOCKED 로 가져가서 한 트랜잭션으로 처리하고 processedAt 을 채운다.
+ * 같은 배치 안에서는 유저별 누적 높이를 합쳐서 한 번에 올리고 랭킹도 유저당 한 번만 다시 계산한다.
+ * 배치가 실패하면 이벤트를 하나씩 다시 처리하고, 계속 실패하는 이벤트는 MAX_ATTEMPTS 이후 건너뛴다.
+ * 밀린 이벤트를 처리하는 동안 다른 @Scheduled 작업(랭킹 재계산, 기간 고정 등)을 막지 않도록 전용 폴링 스레드에서 실행하고,
+ * 챌린지 규칙 등이 준비된 뒤(ApplicationReadyEvent)에 시작한다.
+ */
+@Slf4j
+@Component
+public class OutboxEventConsumer {
+
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final UserRepository userRepository;
+    private final UserChallengeService userChallengeService;
+    private final RankingService rankingService;
+    private final PeriodRankingService periodRankingService;
+    private final UserCacheService userCacheService;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService workerPool;
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "outbox-poller"));
+    private final int workers;
+    private final int batchSize;
+    private final long pollIntervalMs;
+
+    private final Counter processedCounter;
+    private final Counter failedCounter;
+    private final AtomicLong pendingEvents = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public OutboxEventConsumer(OutboxEventRepository outboxEventRepository
+            , UserRepository userRepository
+            , UserChallengeService userChallengeService
+            , RankingService rankingService
+            , PeriodRankingService periodRankingService
+            , UserCacheService userCacheService
+            , PlatformTransactionManager transactionManager
+            , MeterRegistry meterRegistry
+            , @Value("${outbox.consumer.workers:2}") int workers
+            , @Value("${outbox.consumer.batch-size:100}") int batchSize
+            , @Value("${outbox.consumer.poll-interval-ms:1000}") long pollIntervalMs) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.userRepository = userRepository;
+        this.userChallengeService = userChallengeService;
+        this.rankingService = rankingService;
+        this.periodRankingService = periodRankingService;
+        this.userCacheService = userCacheService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.workerPool = Executors.newFixedThreadPool(workers);
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.pollIntervalMs = pollIntervalMs;
+
+        this.processedCounter = meterRegistry.counter("outbox.events.processed");
+        this.failedCounter = meterRegistry.counter("outbox.events.failed");
+        Gauge.builder("outbox.events.pending", pendingEvents, AtomicLong::get)
+                .description("처리 대기 중인 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("outbox.events.lag", lagSeconds, AtomicLong::get)
+                .description("가장 오래된 대기 이벤트의 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        poller.scheduleWithFixedDelay(() -> {
+            try {
+                consume();
+            } catch (RuntimeException e) {
+                // 예외가 밖으로 나가면 이후 실행이 취소되므로 여기서 처리
+                log.warn("outbox poll failed", e);
+            }
+        }, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void consume() {
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            tasks.add(this::drain);
+        }
+        try {
+            workerPool.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        refreshLagMetrics();
+    }
+
+    // 다 찬 배치가 나오는 동안 계속 가져옴
+    private int drain() {
+        int total = 0;
+        int claimed;
+        do {
+            claimed = processBatch();
+            total += claimed;
+        } while (claimed == batchSize);
+        return total;
+    }
+
+    private int processBatch() {
+        List<Long> claimedIds = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<OutboxEvent> events = outboxEventRepository.findPendingForUpdate(MAX_ATTEMPTS, batchSize);
+                events.forEach(event -> claimedIds.add(event.getId()));
+                if (!events.isEmpty()) {
+                    apply(events);
+                    outboxEventRepository.markProcessed(claimedIds, LocalDateTime.now());
+                }
+            });
+            processedCounter.increment(claimedIds.size());
+        } catch (RuntimeException e) {
+            log.warn("outbox batch failed, retrying {} events one by one", claimedIds.size(), e);
+            claimedIds.forEach(this::processOne);
+        }
+        return claimedIds.size();
+    }
+
+    private void processOne(Long id) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxEventRepository.findPendingByIdForUpdate(id).ifPresent(event -> {
+                        apply(List.of(event));
+                        outboxEventRepository.markProcessed(List.of(id), LocalDateTime.now());
+                    }));
+            processedCounter.increment();
+        } catch (RuntimeException e) {
+            log.warn("outbox event {} failed", id, e);
+            failedCounter.increment();
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.increaseAttempts(id));
+        }
+    }
+
+    private void apply(List<OutboxEvent> events) {
+        Map<Long, Double> heightByUser = new LinkedHashMap<>();
+        Set<Long> rankingUsers = new LinkedHashSet<>();
+
+        for (OutboxEvent event : events) {
+            Long userId = event.getUserId();
+            int completed = userChallengeService.updateProgress(userId, event.getCategoryId(), event.getId());
+
+            if (event.getEventType() == OutboxEventType.CLIMB_VERIFIED) {
+                heightByUser.merge(userId, event.getHeight(), Double::sum);
+                periodRankingService.addScore(userId, event.getEventDate(), event.getHeight());
+                rankingUsers.add(userId);
+            } else if (completed > 0) {
+                // 챌린지를 완료한 경우에만 점수가 바뀜
+                rankingUsers.add(userId);
+            }
+        }
+
+        heightByUser.forEach(userRepository::increaseAccumulatedHeight);
+        // 캐시된 누적 높이도 커밋 후 지움
+        heightByUser.keySet().forEach(userCacheService::evict);
+        // 누적 높이와 챌린지 완료 여부가 반영된 뒤에 랭킹 계산
+        rankingUsers.forEach(rankingService::updateUserRanking);
+    }
+
+    private void refreshLagMetrics() {
+        pendingEvents.set(outboxEventRepository.countByProcessedAtIsNull());
+        lagSeconds.set(outboxEventRepository.findFirstByProcessedAtIsNullOrderByIdAsc()
+                .map(event -> Duration.between(event.getCreatedDate(), LocalDateTime.now()).getSeconds())
+                .orElse(0L));
+    }
+
+    // 처리된 이벤트는 일주일 보관 후 삭제
+    @Scheduled(cron = "0 30 0 * * *")
+    public void deleteProcessedEvents() {
+        int deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deleteProcessedBefore(LocalDateTime.now().minusDays(7)));
+        log.info("deleted {} processed outbox events", deleted);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        poller.shutdown();
+        workerPool.shutdown();
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.santa.domain.outbox.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface OutboxEventService {
+
+    // 호출한 트랜잭션 안에서 이벤트 저장 (커밋되어야 처리됨)
+    void publishClimbVerified(Long userId, Long categoryId, LocalDate climbDate, double height);
+
+    void publishMeetingJoined(Long meetingId, List<Long> userIds);
+}
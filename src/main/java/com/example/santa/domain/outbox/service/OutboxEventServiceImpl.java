@@ -0,0 +1,55 @@
+package com.example.santa.domain.outbox.service;
+
+import com.example.santa.domain.meeting.repository.MeetingRepository;
+import com.example.santa.domain.outbox.entity.OutboxEvent;
+import com.example.santa.domain.outbox.entity.OutboxEventType;
+import com.example.santa.domain.outbox.repository.OutboxEventRepository;
+import com.example.santa.global.exception.ExceptionCode;
+import com.example.santa.global.exception.ServiceLogicException;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class OutboxEventServiceImpl implements OutboxEventService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final MeetingRepository meetingRepository;
+
+    public OutboxEventServiceImpl(OutboxEventRepository outboxEventRepository, MeetingRepository meetingRepository) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.meetingRepository = meetingRepository;
+    }
+
+    @Transactional
+    @Override
+    public void publishClimbVerified(Long userId, Long categoryId, LocalDate climbDate, double height) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(OutboxEventType.CLIMB_VERIFIED)
+                .userId(userId)
+                .categoryId(categoryId)
+                .eventDate(climbDate)
+                .height(height)
+                .build());
+    }
+
+    @Transactional
+    @Override
+    public void publishMeetingJoined(Long meetingId, List<Long> userIds) {
+        Long categoryId = meetingRepository.findCategoryIdById(meetingId)
+                .orElseThrow(() -> new ServiceLogicException(ExceptionCode.MEETING_NOT_FOUND));
+        LocalDate today = LocalDate.now();
+
+        outboxEventRepository.saveAll(userIds.stream()
+                .map(userId -> OutboxEvent.builder()
+                        .eventType(OutboxEventType.MEETING_JOINED)
+                        .userId(userId)
+                        .categoryId(categoryId)
+                        .eventDate(today)
+                        .build())
+                .collect(Collectors.toList()));
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.santa.domain.rank.controller;
 
 import com.example.santa.domain.challege.dto.ChallengeResponseDto;
+import com.example.santa.domain.rank.dto.RankingCursor;
 import com.example.santa.domain.rank.dto.RankingResponseDto;
+import com.example.santa.domain.rank.entity.RankingPeriod;
+import com.example.santa.domain.rank.service.PeriodRankingService;
 import com.example.santa.domain.rank.service.RankingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,12 +14,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.nio.file.attribute.UserPrincipal;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +31,7 @@ import java.util.Optional;
 public class RankingController {
 
     private final RankingService rankingService;
+    private final PeriodRankingService periodRankingService;
 
 
     @Operation(summary = "랭킹 조회 기능(+사용자의 랭킹도 따로 보이도록)", description = "랭킹 조회 기능(+사용자의 랭킹도 따로 보이도록)")
@@ -35,7 +39,7 @@ public class RankingController {
             @ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = RankingResponseDto.class)))})
     @GetMapping
     public ResponseEntity<Map<String, Object>> getAllRanksDtoWithUserRanking(
-            @AuthenticationPrincipal String email,
+            @AuthenticationPrincipal(expression = "email") String email,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size)  {
 
@@ -48,6 +52,46 @@ public class RankingController {
 
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "랭킹 조회 기능(NoOffset)", description = "cursor 가 없으면 1위부터, 응답의 nextCursor 를 넘기면 다음 페이지 조회 (전체 개수는 내려주지 않음)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = RankingResponseDto.class)))})
+    @GetMapping("/scroll")
+    public ResponseEntity<Map<String, Object>> getAllRanksNoOffset(
+            @AuthenticationPrincipal(expression = "email") String email,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+
+        RankingCursor rankingCursor = RankingCursor.decode(cursor);
+        Slice<RankingResponseDto> rankingList = rankingService.getRankingNoOffset(rankingCursor, size);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("rankings", rankingList);
+        if (rankingList.hasNext()) {
+            List<RankingResponseDto> content = rankingList.getContent();
+            long position = (rankingCursor == null ? 0 : rankingCursor.getPosition()) + content.size();
+            response.put("nextCursor", RankingCursor.of(content.get(content.size() - 1), position).encode());
+        }
+        if (rankingCursor == null) {
+            rankingService.getRankingByEmail(email).ifPresent(r -> response.put("userRanking", r));
+        }
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "기간별 랭킹 조회 기능(주간/월간/시즌)", description = "periodKey 가 없으면 현재 기간, 지난 기간은 확정된 순위로 조회 (예: WEEKLY 2024-W09, MONTHLY 2024-03, SEASON 2024-Q1)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = RankingResponseDto.class)))})
+    @GetMapping("/periods/{period}")
+    public ResponseEntity<Page<RankingResponseDto>> getPeriodRanking(
+            @PathVariable(name = "period") RankingPeriod period,
+            @RequestParam(name = "periodKey", required = false) String periodKey,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        Page<RankingResponseDto> rankingList = periodRankingService.getPeriodRanking(period, periodKey, PageRequest.of(page, size));
+        return ResponseEntity.ok(rankingList);
+    }
 }
 
 //    @Operation(summary = "랭킹 조회 기능", description = "랭킹 조회 기능")
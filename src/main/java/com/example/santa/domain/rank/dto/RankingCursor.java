@@ -0,0 +1,43 @@
+package com.example.santa.domain.rank.dto;
+
+import com.example.santa.global.exception.ExceptionCode;
+import com.example.santa.global.exception.ServiceLogicException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/*
+ * 랭킹 NoOffset 조회용 커서 (마지막 행의 score, id, rank, 몇 번째 행인지)
+ * 클라이언트에는 "score:id:rank:position" 을 base64 로 감싼 문자열로 내려준다.
+ */
+@Getter
+@AllArgsConstructor
+public class RankingCursor {
+    private Integer score;
+    private Long id;
+    private Long rank;
+    private Long position;
+
+    public static RankingCursor of(RankingResponseDto last, long position) {
+        return new RankingCursor(last.getScore(), last.getId(), last.getRank(), position);
+    }
+
+    public String encode() {
+        String raw = score + ":" + id + ":" + rank + ":" + position;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static RankingCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            return new RankingCursor(Integer.valueOf(values[0]), Long.valueOf(values[1]), Long.valueOf(values[2]), Long.valueOf(values[3]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new ServiceLogicException(ExceptionCode.INVALID_RANKING_CURSOR);
+        }
+    }
+}
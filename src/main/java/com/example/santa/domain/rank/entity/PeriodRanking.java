@@ -0,0 +1,34 @@
+package com.example.santa.domain.rank.entity;
+
+import com.example.santa.domain.user.entity.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+// 진행 중인 기간(주간/월간/시즌)의 유저별 점수
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Setter
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_period_ranking_user", columnNames = {"period", "period_key", "user_id"}),
+        indexes = @Index(name = "idx_period_ranking_score", columnList = "period, period_key, score"))
+public class PeriodRanking {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RankingPeriod period;
+
+    @Column(nullable = false)
+    private String periodKey;
+
+    private Integer score;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+}
@@ -10,6 +10,8 @@ import lombok.*;
 @Builder
 @Setter
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_ranking_user", columnNames = "user_id"),
+        indexes = @Index(name = "idx_ranking_score_id", columnList = "score, id"))
 public class Ranking {
 
     @Id
@@ -0,0 +1,35 @@
+package com.example.santa.domain.rank.entity;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+
+@Getter
+public enum RankingPeriod {
+    WEEKLY, MONTHLY, SEASON;
+
+    // 날짜가 속한 기간의 키 (주간: 2024-W09, 월간: 2024-03, 시즌(분기): 2024-Q1)
+    public String keyOf(LocalDate date) {
+        switch (this) {
+            case WEEKLY:
+                return String.format("%d-W%02d", date.get(IsoFields.WEEK_BASED_YEAR), date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+            case MONTHLY:
+                return String.format("%d-%02d", date.getYear(), date.getMonthValue());
+            default:
+                return String.format("%d-Q%d", date.getYear(), date.get(IsoFields.QUARTER_OF_YEAR));
+        }
+    }
+
+    // 날짜가 속한 기간의 바로 앞 기간의 키
+    public String previousKeyOf(LocalDate date) {
+        switch (this) {
+            case WEEKLY:
+                return keyOf(date.minusWeeks(1));
+            case MONTHLY:
+                return keyOf(date.minusMonths(1));
+            default:
+                return keyOf(date.minusMonths(3));
+        }
+    }
+}
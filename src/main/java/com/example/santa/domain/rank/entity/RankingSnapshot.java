@@ -0,0 +1,40 @@
+package com.example.santa.domain.rank.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+// 종료된 기간의 최종 순위, 기간 종료 시 한 번만 저장되고 수정되지 않음
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Immutable
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_ranking_snapshot_user", columnNames = {"period", "period_key", "user_id"}),
+        indexes = @Index(name = "idx_ranking_snapshot_rank", columnList = "period, period_key, rank_no"))
+public class RankingSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RankingPeriod period;
+
+    @Column(nullable = false)
+    private String periodKey;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    private String nickname;
+
+    private String image;
+
+    private Integer score;
+
+    @Column(name = "rank_no")
+    private Long rank;
+}
@@ -0,0 +1,5 @@
+package com.example.santa.domain.rank.event;
+
+// 전체 랭킹(ranking 테이블)을 다시 계산했을 때 발행, Redis 랭킹을 다시 채운다
+public class RankingRebuiltEvent {
+}
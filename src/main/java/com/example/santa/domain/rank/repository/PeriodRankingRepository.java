@@ -0,0 +1,37 @@
+package com.example.santa.domain.rank.repository;
+
+import com.example.santa.domain.rank.dto.RankingResponseDto;
+import com.example.santa.domain.rank.entity.PeriodRanking;
+import com.example.santa.domain.rank.entity.RankingPeriod;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface PeriodRankingRepository extends JpaRepository<PeriodRanking, Long> {
+
+    // 기간별 점수 누적 (행이 없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO period_ranking (period, period_key, user_id, score) VALUES (:period, :periodKey, :userId, ROUND(:score)) " +
+            "ON DUPLICATE KEY UPDATE score = score + ROUND(:score)", nativeQuery = true)
+    int addScore(@Param("period") String period, @Param("periodKey") String periodKey, @Param("userId") Long userId, @Param("score") double score);
+
+    @Query(value = "SELECT new com.example.santa.domain.rank.dto.RankingResponseDto(p.id, " +
+            "(SELECT COUNT(h) + 1 FROM PeriodRanking h WHERE h.period = p.period AND h.periodKey = p.periodKey AND h.score > p.score), " +
+            "u.nickname, u.image, p.score) " +
+            "FROM PeriodRanking p JOIN p.user u WHERE p.period = :period AND p.periodKey = :periodKey ORDER BY p.score DESC",
+            countQuery = "SELECT COUNT(p) FROM PeriodRanking p WHERE p.period = :period AND p.periodKey = :periodKey")
+    Page<RankingResponseDto> findRankingDtoPage(@Param("period") RankingPeriod period, @Param("periodKey") String periodKey, Pageable pageable);
+
+    // 키는 같은 기간 종류끼리 문자열 순서가 시간 순서와 같음 (2024-W09, 2024-03, 2024-Q1)
+    @Query("SELECT DISTINCT p.periodKey FROM PeriodRanking p WHERE p.period = :period AND p.periodKey < :currentKey")
+    List<String> findExpiredPeriodKeys(@Param("period") RankingPeriod period, @Param("currentKey") String currentKey);
+
+    @Modifying
+    @Query("DELETE FROM PeriodRanking p WHERE p.period = :period AND p.periodKey = :periodKey")
+    int deleteByPeriodAndPeriodKey(@Param("period") RankingPeriod period, @Param("periodKey") String periodKey);
+}
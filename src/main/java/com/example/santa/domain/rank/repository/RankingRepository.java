@@ -1,10 +1,16 @@
 package com.example.santa.domain.rank.repository;
 
+import com.example.santa.domain.rank.dto.RankingResponseDto;
 import com.example.santa.domain.rank.entity.Ranking;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,10 +19,38 @@ public interface RankingRepository extends JpaRepository<Ranking, Long> {
 
     Optional<Ranking> findByUserEmail(String userEmail);
 
+    Optional<Ranking> findByUserId(Long userId);
+
+    @EntityGraph(attributePaths = "user")
+    List<Ranking> findAllByUserIdIn(Collection<Long> userIds);
+
     Page<Ranking> findAllByOrderByScoreDesc(Pageable pageable);
 
     List<Ranking> findAllByOrderByScoreDesc();
 
     int countByScoreGreaterThan(Integer score);
 
+    // 순위 = 나보다 점수가 높은 사람 수 + 1 (score 인덱스 범위 조회), 동점자는 같은 순위
+    @Query("SELECT new com.example.santa.domain.rank.dto.RankingResponseDto(r.id, (SELECT COUNT(h) + 1 FROM Ranking h WHERE h.score > r.score), u.nickname, u.image, r.score) " +
+            "FROM Ranking r JOIN r.user u WHERE u.email = :email")
+    Optional<RankingResponseDto> findRankingDtoByUserEmail(@Param("email") String email);
+
+    @Query(value = "SELECT new com.example.santa.domain.rank.dto.RankingResponseDto(r.id, (SELECT COUNT(h) + 1 FROM Ranking h WHERE h.score > r.score), u.nickname, u.image, r.score) " +
+            "FROM Ranking r JOIN r.user u",
+            countQuery = "SELECT COUNT(r) FROM Ranking r")
+    Page<RankingResponseDto> findRankingDtoPage(Pageable pageable);
+
+    // NoOffset 조회 : (score, id) 인덱스를 마지막 행 다음부터 읽으므로 페이지 깊이와 상관없이 비용이 같음
+    @Query("SELECT r FROM Ranking r JOIN FETCH r.user WHERE r.score IS NOT NULL ORDER BY r.score DESC, r.id DESC")
+    Slice<Ranking> findRankingSlice(Pageable pageable);
+
+    @Query("SELECT r FROM Ranking r JOIN FETCH r.user " +
+            "WHERE r.score < :lastScore OR (r.score = :lastScore AND r.id < :lastId) " +
+            "ORDER BY r.score DESC, r.id DESC")
+    Slice<Ranking> findRankingSliceAfter(@Param("lastScore") Integer lastScore, @Param("lastId") Long lastId, Pageable pageable);
+
+    // 완료한 챌린지 수 * 100 + 누적 높이를 한 번의 쿼리로 계산
+    @Query("SELECT u.accumulatedHeight + 100 * (SELECT COUNT(uc) FROM UserChallenges uc WHERE uc.user = u AND uc.isCompleted = true) FROM User u WHERE u.id = :userId")
+    Double calculateScoreByUserId(@Param("userId") Long userId);
+
 }
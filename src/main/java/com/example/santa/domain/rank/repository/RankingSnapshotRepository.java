@@ -0,0 +1,26 @@
+package com.example.santa.domain.rank.repository;
+
+import com.example.santa.domain.rank.entity.RankingPeriod;
+import com.example.santa.domain.rank.entity.RankingSnapshot;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RankingSnapshotRepository extends JpaRepository<RankingSnapshot, Long> {
+
+    Page<RankingSnapshot> findByPeriodAndPeriodKeyOrderByRankAsc(RankingPeriod period, String periodKey, Pageable pageable);
+
+    // 스냅샷이 있으면 이미 고정(freeze)된 기간
+    boolean existsByPeriodAndPeriodKey(RankingPeriod period, String periodKey);
+
+    // 종료된 기간의 점수를 순위와 함께 한 번에 스냅샷으로 복사
+    @Modifying
+    @Query(value = "INSERT INTO ranking_snapshot (period, period_key, user_id, nickname, image, score, rank_no) " +
+            "SELECT p.period, p.period_key, p.user_id, u.nickname, u.image, p.score, RANK() OVER (ORDER BY p.score DESC) " +
+            "FROM period_ranking p JOIN user u ON u.id = p.user_id " +
+            "WHERE p.period = :period AND p.period_key = :periodKey", nativeQuery = true)
+    int insertSnapshot(@Param("period") String period, @Param("periodKey") String periodKey);
+}
@@ -0,0 +1,19 @@
+package com.example.santa.domain.rank.service;
+
+import com.example.santa.domain.rank.dto.RankingResponseDto;
+import com.example.santa.domain.rank.entity.RankingPeriod;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+
+public interface PeriodRankingService {
+
+    // date 가 속한 진행 중인 기간(주간/월간/시즌)에 점수 누적
+    void addScore(Long userId, LocalDate date, double score);
+
+    // periodKey 가 없으면 현재 기간, 종료된 기간은 스냅샷에서 조회
+    Page<RankingResponseDto> getPeriodRanking(RankingPeriod period, String periodKey, Pageable pageable);
+
+    void freezeExpiredPeriods();
+}
@@ -0,0 +1,97 @@
+package com.example.santa.domain.rank.service;
+
+import com.example.santa.domain.rank.dto.RankingResponseDto;
+import com.example.santa.domain.rank.entity.RankingPeriod;
+import com.example.santa.domain.rank.repository.PeriodRankingRepository;
+import com.example.santa.domain.rank.repository.RankingSnapshotRepository;
+import com.example.santa.global.util.RedisUtil;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class PeriodRankingServiceImpl implements PeriodRankingService {
+
+    private static final String FREEZE_LOCK_KEY = "lock:ranking:freeze";
+    private static final long FREEZE_LOCK_SECONDS = 10 * 60;
+
+    private final PeriodRankingRepository periodRankingRepository;
+    private final RankingSnapshotRepository rankingSnapshotRepository;
+    private final RedisUtil redisUtil;
+
+    public PeriodRankingServiceImpl(PeriodRankingRepository periodRankingRepository, RankingSnapshotRepository rankingSnapshotRepository, RedisUtil redisUtil) {
+        this.periodRankingRepository = periodRankingRepository;
+        this.rankingSnapshotRepository = rankingSnapshotRepository;
+        this.redisUtil = redisUtil;
+    }
+
+    @Transactional
+    @Override
+    public void addScore(Long userId, LocalDate date, double score) {
+        LocalDate today = LocalDate.now();
+        for (RankingPeriod period : RankingPeriod.values()) {
+            String periodKey = period.keyOf(date);
+            // 등산 날짜는 클라이언트가 보내므로 현재 기간과 바로 앞 기간만 반영 (미래, 오래된 날짜는 누적 점수(전체 랭킹)에만 반영)
+            // 바로 앞 기간은 아웃박스로 늦게 처리된 점수를 위해 고정(freeze) 전일 때만 반영
+            boolean current = periodKey.equals(period.keyOf(today));
+            boolean previous = periodKey.equals(period.previousKeyOf(today));
+            if (!current && (!previous || rankingSnapshotRepository.existsByPeriodAndPeriodKey(period, periodKey))) {
+                continue;
+            }
+            periodRankingRepository.addScore(period.name(), periodKey, userId, score);
+        }
+    }
+
+    @Override
+    public Page<RankingResponseDto> getPeriodRanking(RankingPeriod period, String periodKey, Pageable pageable) {
+        String currentKey = period.keyOf(LocalDate.now());
+        if (periodKey == null || periodKey.equals(currentKey)) {
+            return periodRankingRepository.findRankingDtoPage(period, currentKey, pageable);
+        }
+        return rankingSnapshotRepository.findByPeriodAndPeriodKeyOrderByRankAsc(period, periodKey, pageable)
+                .map(snapshot -> new RankingResponseDto(
+                        snapshot.getId(),
+                        snapshot.getRank(),
+                        snapshot.getNickname(),
+                        snapshot.getImage(),
+                        snapshot.getScore()
+                ));
+    }
+
+    /*
+    * 지난 기간의 점수를 스냅샷으로 옮기고 진행용 데이터는 삭제
+    * 여러 서버가 같이 실행하지 않도록 Redis 락을 잡은 서버만 실행 (락은 만료되게 둠, 조금 늦게 실행된 서버가 다시 잡지 않도록)
+    * */
+    @Transactional
+    @Scheduled(cron = "0 5 0 * * *") // 매일 0시 5분에 실행
+    @Override
+    public void freezeExpiredPeriods() {
+        if (!redisUtil.tryLock(FREEZE_LOCK_KEY, UUID.randomUUID().toString(), FREEZE_LOCK_SECONDS)) {
+            log.info("ranking freeze skipped : running on another instance");
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        for (RankingPeriod period : RankingPeriod.values()) {
+            List<String> expiredKeys = periodRankingRepository.findExpiredPeriodKeys(period, period.keyOf(today));
+            for (String periodKey : expiredKeys) {
+                // 고정 중에 늦게 들어온 점수가 남은 경우 (스냅샷은 다시 만들지 않음)
+                if (rankingSnapshotRepository.existsByPeriodAndPeriodKey(period, periodKey)) {
+                    int dropped = periodRankingRepository.deleteByPeriodAndPeriodKey(period, periodKey);
+                    log.warn("ranking snapshot {} {} already frozen, dropped {} late rows", period, periodKey, dropped);
+                    continue;
+                }
+                int saved = rankingSnapshotRepository.insertSnapshot(period.name(), periodKey);
+                periodRankingRepository.deleteByPeriodAndPeriodKey(period, periodKey);
+                log.info("ranking snapshot {} {} : {}", period, periodKey, saved);
+            }
+        }
+    }
+}
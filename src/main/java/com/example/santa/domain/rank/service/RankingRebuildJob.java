@@ -0,0 +1,93 @@
+package com.example.santa.domain.rank.service;
+
+import com.example.santa.domain.rank.event.RankingRebuiltEvent;
+import com.example.santa.global.util.RedisUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+/*
+ * 전체 랭킹 재계산 (보정용)
+ * 유저별 완료 챌린지 수를 GROUP BY 로 세고 누적 높이와 합쳐서 INSERT ... SELECT ... ON DUPLICATE KEY UPDATE 로 한 번에 저장한다.
+ * 유저 id 범위(CHUNK_SIZE)로 나눠서 실행하므로 한 문장이 오래 락을 잡지 않는다.
+ * 여러 서버가 같은 시각에 실행하므로 Redis 락을 잡은 서버만 실행한다.
+ * - 매일 자정 실행 : 날짜별 락(lock:ranking:rebuild:{날짜})을 풀지 않고 두어서 조금 늦게 실행된 서버가 다시 실행하지 않음
+ * - 직접 실행(updateAllRanks) : 실행 중에만 락을 잡아서 동시에 두 번 실행되지 않게 함
+ */
+@Slf4j
+@Component
+public class RankingRebuildJob {
+
+    private static final String LOCK_KEY = "lock:ranking:rebuild";
+    private static final long LOCK_SECONDS = 30 * 60;
+    private static final String DAILY_LOCK_KEY_PREFIX = "lock:ranking:rebuild:";
+    private static final long DAILY_LOCK_SECONDS = 24 * 60 * 60;
+    private static final int CHUNK_SIZE = 10_000;
+
+    // 점수 = 누적 높이 + 완료한 챌린지 수 * 100 (RankingRepository.calculateScoreByUserId 와 같은 식)
+    private static final String UPSERT_SQL = "INSERT INTO ranking (user_id, score) " +
+            "SELECT u.id, FLOOR(u.accumulated_height + 100 * COALESCE(c.completed, 0)) FROM user u " +
+            "LEFT JOIN (SELECT user_id, COUNT(*) AS completed FROM user_challenges " +
+            "WHERE is_completed = true AND user_id BETWEEN ? AND ? GROUP BY user_id) c ON c.user_id = u.id " +
+            "WHERE u.id BETWEEN ? AND ? " +
+            "ON DUPLICATE KEY UPDATE score = VALUES(score)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RedisUtil redisUtil;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public RankingRebuildJob(JdbcTemplate jdbcTemplate, RedisUtil redisUtil, ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.redisUtil = redisUtil;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Scheduled(cron = "0 0 0 * * *") // 매일 자정에 실행
+    public void scheduledRebuild() {
+        if (!redisUtil.tryLock(DAILY_LOCK_KEY_PREFIX + LocalDate.now(), UUID.randomUUID().toString(), DAILY_LOCK_SECONDS)) {
+            log.info("ranking rebuild skipped : already run today");
+            return;
+        }
+        rebuild();
+    }
+
+    // 다른 서버가 실행 중이면 false
+    public boolean rebuild() {
+        String token = UUID.randomUUID().toString();
+        if (!redisUtil.tryLock(LOCK_KEY, token, LOCK_SECONDS)) {
+            log.info("ranking rebuild skipped : running on another instance");
+            return false;
+        }
+        try {
+            rebuildAll();
+            eventPublisher.publishEvent(new RankingRebuiltEvent());
+            return true;
+        } finally {
+            redisUtil.unlock(LOCK_KEY, token);
+        }
+    }
+
+    private void rebuildAll() {
+        Map<String, Object> range = jdbcTemplate.queryForMap("SELECT MIN(id) AS min_id, MAX(id) AS max_id, COUNT(*) AS users FROM user");
+        if (range.get("min_id") == null) {
+            return;
+        }
+        long minId = ((Number) range.get("min_id")).longValue();
+        long maxId = ((Number) range.get("max_id")).longValue();
+        long users = ((Number) range.get("users")).longValue();
+
+        long start = System.nanoTime();
+        for (long from = minId; from <= maxId; from += CHUNK_SIZE) {
+            long to = from + CHUNK_SIZE - 1;
+            jdbcTemplate.update(UPSERT_SQL, from, to, from, to);
+        }
+        double seconds = Math.max((System.nanoTime() - start) / 1_000_000_000.0, 0.001);
+        log.info("ranking rebuilt : {} users in {} s ({} rows/s)", users, String.format("%.2f", seconds), (long) (users / seconds));
+    }
+}
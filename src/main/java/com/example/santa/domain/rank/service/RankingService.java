@@ -1,8 +1,10 @@
 package com.example.santa.domain.rank.service;
 
+import com.example.santa.domain.rank.dto.RankingCursor;
 import com.example.santa.domain.rank.dto.RankingResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,7 +12,9 @@ import java.util.Optional;
 public interface RankingService {
 
     void updateAllRanks();
+    void updateUserRanking(Long userId);
     Page<RankingResponseDto> getRankingOrderedByScore(Pageable pageable);
     Optional<RankingResponseDto> getRankingByEmail(String email);
+    Slice<RankingResponseDto> getRankingNoOffset(RankingCursor cursor, int size);
 
 }
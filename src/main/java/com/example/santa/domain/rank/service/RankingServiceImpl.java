@@ -1,17 +1,19 @@
 package com.example.santa.domain.rank.service;
 
+import com.example.santa.domain.rank.dto.RankingCursor;
 import com.example.santa.domain.rank.dto.RankingResponseDto;
 import com.example.santa.domain.rank.entity.Ranking;
 import com.example.santa.domain.rank.repository.RankingRepository;
-import com.example.santa.domain.user.entity.User;
 import com.example.santa.domain.user.repository.UserRepository;
 import com.example.santa.domain.userchallenge.repository.UserChallengeRepository;
 import jakarta.transaction.Transactional;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -19,59 +21,90 @@ import java.util.List;
 import java.util.Optional;
 
 @Service
+@ConditionalOnProperty(name = "ranking.store", havingValue = "jpa", matchIfMissing = true)
 public class RankingServiceImpl implements RankingService{
 
     private final UserChallengeRepository userChallengeRepository;
     private final UserRepository userRepository;
     private final RankingRepository rankingRepository;
+    private final RankingRebuildJob rankingRebuildJob;
 
-    public RankingServiceImpl(UserChallengeRepository userChallengeRepository, UserRepository userRepository, RankingRepository rankingRepository) {
+    public RankingServiceImpl(UserChallengeRepository userChallengeRepository, UserRepository userRepository, RankingRepository rankingRepository, RankingRebuildJob rankingRebuildJob) {
         this.userChallengeRepository = userChallengeRepository;
         this.userRepository = userRepository;
         this.rankingRepository = rankingRepository;
+        this.rankingRebuildJob = rankingRebuildJob;
     }
 
-    @Transactional
-//    @Scheduled(cron = "0 0 0 * * *") // 매일 자정에 실행
-    @Scheduled(cron = "0 * * * * *") // 매분 0초마다 실행
+    // 점수는 등산 인증/챌린지 완료 시점에 updateUserRanking 으로 갱신되므로 전체 재계산은 보정용으로만 실행
+    // (매일 자정 RankingRebuildJob 이 한 서버에서만 실행)
     @Override
     public void updateAllRanks() {
-        List<User> users = userRepository.findAll();
-        for (User user : users) {
-            long completedChallenges = userChallengeRepository.countCompletedChallengesByUserEmail(user.getEmail());
-            double score = completedChallenges * 100 + user.getAccumulatedHeight();
+        rankingRebuildJob.rebuild();
+    }
+
+    @Transactional
+    @Override
+    public void updateUserRanking(Long userId) {
+        saveUserRanking(userId);
+    }
 
-            Ranking ranking = rankingRepository.findByUserEmail(user.getEmail()).orElse(new Ranking());
-            ranking.setScore((int) score);
-            ranking.setUser(user);
-            rankingRepository.save(ranking);
+    // 유저 한 명의 점수를 다시 계산해서 Ranking 에 저장, 존재하지 않는 유저면 null
+    protected Ranking saveUserRanking(Long userId) {
+        Double score = rankingRepository.calculateScoreByUserId(userId);
+        if (score == null) {
+            return null;
         }
+
+        Ranking ranking = rankingRepository.findByUserId(userId)
+                .orElseGet(() -> Ranking.builder()
+                        .user(userRepository.getReferenceById(userId))
+                        .build());
+        ranking.setScore(score.intValue());
+        return rankingRepository.save(ranking);
     }
+
     @Override
     public Page<RankingResponseDto> getRankingOrderedByScore(Pageable pageable) {
-        Page<Ranking> rankingsPage = rankingRepository.findAllByOrderByScoreDesc(pageable);
-
-        return rankingsPage.map(ranking -> new RankingResponseDto(
-                ranking.getId(),
-                (long) (rankingRepository.countByScoreGreaterThan(ranking.getScore()) + 1),
-                ranking.getUser().getNickname(),
-                ranking.getUser().getImage(),
-                ranking.getScore()
-        ));
+        return rankingRepository.findRankingDtoPage(pageable);
     }
 
     @Override
     public Optional<RankingResponseDto> getRankingByEmail(String email) {
-        Optional<Ranking> ranking = rankingRepository.findByUserEmail(email);
-        //Required type: Long
-        //Provided: int
-        return ranking.map(r -> new RankingResponseDto(
-                r.getId(),
-                (long) (rankingRepository.countByScoreGreaterThan(r.getScore()) + 1),
-                r.getUser().getNickname(),
-                r.getUser().getImage(),
-                r.getScore()
-        ));
+        return rankingRepository.findRankingDtoByUserEmail(email);
+    }
+
+    /*
+     * 커서에는 마지막 행의 (score, id) 와 함께 그 행의 순위/위치가 들어있어서
+     * 다음 페이지의 순위를 COUNT 없이 이어서 계산할 수 있다. (동점자는 같은 순위)
+     */
+    @Override
+    public Slice<RankingResponseDto> getRankingNoOffset(RankingCursor cursor, int size) {
+        PageRequest pageRequest = PageRequest.of(0, size);
+        Slice<Ranking> rankings = cursor == null
+                ? rankingRepository.findRankingSlice(pageRequest)
+                : rankingRepository.findRankingSliceAfter(cursor.getScore(), cursor.getId(), pageRequest);
+
+        long position = cursor == null ? 0 : cursor.getPosition();
+        long rank = cursor == null ? 0 : cursor.getRank();
+        Integer previousScore = cursor == null ? null : cursor.getScore();
+
+        List<RankingResponseDto> content = new ArrayList<>();
+        for (Ranking ranking : rankings) {
+            position++;
+            if (!ranking.getScore().equals(previousScore)) {
+                rank = position;
+            }
+            previousScore = ranking.getScore();
+            content.add(new RankingResponseDto(
+                    ranking.getId(),
+                    rank,
+                    ranking.getUser().getNickname(),
+                    ranking.getUser().getImage(),
+                    ranking.getScore()
+            ));
+        }
+        return new SliceImpl<>(content, pageRequest, rankings.hasNext());
     }
 
 }
@@ -0,0 +1,198 @@
+package com.example.santa.domain.rank.service;
+
+import com.example.santa.domain.rank.dto.RankingResponseDto;
+import com.example.santa.domain.rank.entity.Ranking;
+import com.example.santa.domain.rank.event.RankingRebuiltEvent;
+import com.example.santa.domain.rank.repository.RankingRepository;
+import com.example.santa.domain.user.entity.User;
+import com.example.santa.domain.user.repository.UserRepository;
+import com.example.santa.domain.userchallenge.repository.UserChallengeRepository;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+ * Redis sorted set 기반 랭킹 (ranking.store=redis)
+ * 점수 저장은 JPA 구현을 그대로 사용하고(Ranking 테이블이 원본) 저장 시 sorted set 에도 반영한다.
+ * 조회는 sorted set 에서 처리하므로 페이지 번호와 상관없이 Redis 3번 + DB 1번으로 끝난다.
+ * 동점자 처리는 JPA 구현과 같게 (나보다 점수가 높은 사람 수 + 1) 로 계산한다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "ranking.store", havingValue = "redis")
+public class RedisRankingServiceImpl extends RankingServiceImpl {
+
+    private static final String RANKING_KEY = "ranking:score";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final UserRepository userRepository;
+    private final RankingRepository rankingRepository;
+
+    public RedisRankingServiceImpl(UserChallengeRepository userChallengeRepository, UserRepository userRepository, RankingRepository rankingRepository, RankingRebuildJob rankingRebuildJob, StringRedisTemplate stringRedisTemplate) {
+        super(userChallengeRepository, userRepository, rankingRepository, rankingRebuildJob);
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.userRepository = userRepository;
+        this.rankingRepository = rankingRepository;
+    }
+
+    // 서버 시작 시 sorted set 이 비어있으면 Ranking 테이블로 채움
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRankings() {
+        Long size = zSet().zCard(RANKING_KEY);
+        if (size != null && size > 0) {
+            return;
+        }
+        Set<TypedTuple<String>> tuples = findAllScores();
+        if (!tuples.isEmpty()) {
+            zSet().add(RANKING_KEY, tuples);
+        }
+        log.info("ranking sorted set loaded : {}", tuples.size());
+    }
+
+    // 전체 재계산 후에는 임시 키에 채운 뒤 RENAME 으로 교체 (조회 중에 빈 랭킹이 보이지 않도록)
+    @EventListener(RankingRebuiltEvent.class)
+    public void reloadRankings() {
+        Set<TypedTuple<String>> tuples = findAllScores();
+        if (tuples.isEmpty()) {
+            stringRedisTemplate.delete(RANKING_KEY);
+            return;
+        }
+        String rebuildKey = RANKING_KEY + ":rebuild";
+        stringRedisTemplate.delete(rebuildKey);
+        zSet().add(rebuildKey, tuples);
+        stringRedisTemplate.rename(rebuildKey, RANKING_KEY);
+        log.info("ranking sorted set reloaded : {}", tuples.size());
+    }
+
+    private Set<TypedTuple<String>> findAllScores() {
+        return rankingRepository.findAll().stream()
+                .filter(ranking -> ranking.getScore() != null)
+                .<TypedTuple<String>>map(ranking -> new DefaultTypedTuple<>(ranking.getUser().getId().toString(), ranking.getScore().doubleValue()))
+                .collect(Collectors.toSet());
+    }
+
+    // sorted set 은 커밋된 점수만 가지도록 커밋 후에 반영 (롤백되면 반영하지 않음)
+    @Transactional
+    @Override
+    public void updateUserRanking(Long userId) {
+        Ranking ranking = saveUserRanking(userId);
+        if (ranking == null) {
+            return;
+        }
+        double score = ranking.getScore();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            addScore(userId, score);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                addScore(userId, score);
+            }
+        });
+    }
+
+    private void addScore(Long userId, double score) {
+        try {
+            zSet().add(RANKING_KEY, userId.toString(), score);
+        } catch (RuntimeException e) {
+            // Redis 장애 시 Ranking 테이블이 원본이므로 다음 재계산(RankingRebuiltEvent) 때 맞춰짐
+            log.warn("ranking sorted set update failed : {}", userId, e);
+        }
+    }
+
+    @Override
+    public Page<RankingResponseDto> getRankingOrderedByScore(Pageable pageable) {
+        long start = pageable.getOffset();
+        long end = start + pageable.getPageSize() - 1;
+
+        // ZREVRANGE key start end WITHSCORES
+        Set<TypedTuple<String>> tuples = zSet().reverseRangeWithScores(RANKING_KEY, start, end);
+        Long total = zSet().zCard(RANKING_KEY);
+        if (tuples == null || tuples.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, total == null ? 0 : total);
+        }
+
+        List<Long> userIds = tuples.stream()
+                .map(tuple -> Long.valueOf(tuple.getValue()))
+                .toList();
+        Map<Long, Ranking> rankings = rankingRepository.findAllByUserIdIn(userIds).stream()
+                .collect(Collectors.toMap(ranking -> ranking.getUser().getId(), Function.identity()));
+
+        List<RankingResponseDto> content = new ArrayList<>();
+        long position = start;
+        long rank = 0;
+        Double previousScore = null;
+        for (TypedTuple<String> tuple : tuples) {
+            position++;
+            Double score = tuple.getScore();
+            if (previousScore == null) {
+                // 페이지 첫 줄은 앞 페이지와 동점일 수 있으므로 ZCOUNT 로 계산
+                rank = countHigherScores(score) + 1;
+            } else if (!score.equals(previousScore)) {
+                rank = position;
+            }
+            previousScore = score;
+
+            Ranking ranking = rankings.get(Long.valueOf(tuple.getValue()));
+            if (ranking == null) {
+                continue;
+            }
+            content.add(new RankingResponseDto(
+                    ranking.getId(),
+                    rank,
+                    ranking.getUser().getNickname(),
+                    ranking.getUser().getImage(),
+                    score.intValue()
+            ));
+        }
+        return new PageImpl<>(content, pageable, total == null ? 0 : total);
+    }
+
+    @Override
+    public Optional<RankingResponseDto> getRankingByEmail(String email) {
+        Optional<User> user = userRepository.findByEmail(email);
+        if (user.isEmpty()) {
+            return Optional.empty();
+        }
+        Double score = zSet().score(RANKING_KEY, user.get().getId().toString());
+        if (score == null) {
+            return Optional.empty();
+        }
+        long rank = countHigherScores(score) + 1;
+        return rankingRepository.findByUserId(user.get().getId())
+                .map(r -> new RankingResponseDto(
+                        r.getId(),
+                        rank,
+                        user.get().getNickname(),
+                        user.get().getImage(),
+                        score.intValue()
+                ));
+    }
+
+    // 점수는 정수이므로 score + 1 이상인 멤버 수 == 나보다 점수가 높은 사람 수
+    private long countHigherScores(double score) {
+        Long count = zSet().count(RANKING_KEY, score + 1, Double.POSITIVE_INFINITY);
+        return count == null ? 0 : count;
+    }
+
+    private ZSetOperations<String, String> zSet() {
+        return stringRedisTemplate.opsForZSet();
+    }
+}
@@ -4,6 +4,7 @@ import com.example.santa.domain.meeting.dto.MeetingResponseDto;
 import com.example.santa.domain.report.dto.ReportRequestDto;
 import com.example.santa.domain.report.dto.ReportResponseDto;
 import com.example.santa.domain.report.service.ReportService;
+import com.example.santa.global.security.UserPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -31,9 +32,9 @@ public class ReportController {
             @ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = ReportResponseDto.class)))
     })
     @PostMapping
-    public ResponseEntity<ReportResponseDto> reporting(@AuthenticationPrincipal String email, @RequestBody ReportRequestDto reportRequestDto) {
+    public ResponseEntity<ReportResponseDto> reporting(@AuthenticationPrincipal UserPrincipal principal, @RequestBody ReportRequestDto reportRequestDto) {
 
-        return ResponseEntity.ok(reportService.reporting(email, reportRequestDto));
+        return ResponseEntity.ok(reportService.reporting(principal.getId(), reportRequestDto));
     }
     @Operation(summary = "*관리자* 신고 목록 조회 기능", description = "신고 목록 조회 기능")
     @ApiResponses(value = {
@@ -6,7 +6,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
 public interface ReportService {
-    ReportResponseDto reporting(String email, ReportRequestDto reportRequestDto);
+    ReportResponseDto reporting(Long userId, ReportRequestDto reportRequestDto);
     Page<ReportResponseDto> getReports(PageRequest pageRequest);
     void deleteReport(Long id);
 }
@@ -27,10 +27,10 @@ public class ReportServiceImpl implements ReportService{
     }
 
     @Override
-    public ReportResponseDto reporting(String email, ReportRequestDto reportRequestDto) {
+    public ReportResponseDto reporting(Long userId, ReportRequestDto reportRequestDto) {
 
-        User reporter = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ServiceLogicException(ExceptionCode.USER_NOT_FOUND));
+        // 신고자는 토큰의 id 로 참조만 만듦
+        User reporter = userRepository.getReferenceById(userId);
         User reportedParticipant = userRepository.findById(reportRequestDto.getReportedParticipantId())
                 .orElseThrow(() -> new ServiceLogicException(ExceptionCode.USER_NOT_FOUND));
 
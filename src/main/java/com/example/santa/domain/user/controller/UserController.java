@@ -99,11 +99,11 @@ public class UserController {
     }
 
     @PostMapping("/new-access-token")
-    @Operation(summary = "AccessToken 재발급", description = "AccessToken 재발급")
+    @Operation(summary = "AccessToken 재발급", description = "AccessToken 재발급 (사용한 refreshToken 은 폐기되고 새 refreshToken 도 함께 발급)")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "201", description = "성공", content = @Content(schema = @Schema(implementation = Long.class)))})
-    public ResponseEntity<String> generateAccessToken(@RequestBody String refreshToken) {
-        String token = userService.generateAccessToken(refreshToken);
+            @ApiResponse(responseCode = "201", description = "성공", content = @Content(schema = @Schema(implementation = JwtToken.class)))})
+    public ResponseEntity<JwtToken> generateAccessToken(@RequestBody String refreshToken) {
+        JwtToken token = userService.reissueToken(refreshToken);
         return ResponseEntity.status(HttpStatus.CREATED).body(token);
     }
 
@@ -116,7 +116,7 @@ public class UserController {
     @Operation(summary = "마이페이지", description = "마이페이지")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = UserResponseDto.class)))})
-    public ResponseEntity<UserResponseDto> findUser(@AuthenticationPrincipal String email) {
+    public ResponseEntity<UserResponseDto> findUser(@AuthenticationPrincipal(expression = "email") String email) {
         UserResponseDto userByEmail = userService.findUserByEmail(email);
         return ResponseEntity.status(HttpStatus.OK).body(userByEmail);
     }
@@ -152,7 +152,7 @@ public class UserController {
     @Operation(summary = "마이페이지 수정", description = "마이페이지 수정")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = UserResponseDto.class)))})
-    public ResponseEntity<UserResponseDto> updateUser(@AuthenticationPrincipal String email, @ModelAttribute @Valid UserUpdateRequestDto userUpdateRequestDto) {
+    public ResponseEntity<UserResponseDto> updateUser(@AuthenticationPrincipal(expression = "email") String email, @ModelAttribute @Valid UserUpdateRequestDto userUpdateRequestDto) {
         UserResponseDto updateUser = userService.updateUser(email, userUpdateRequestDto);
         return ResponseEntity.status(HttpStatus.OK).body(updateUser);
     }
@@ -161,7 +161,7 @@ public class UserController {
     @Operation(summary = "비밀번호 수정", description = "비밀번호 수정")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "성공", content = @Content(schema = @Schema(implementation = String.class)))})
-    public ResponseEntity<String> changePassword(@AuthenticationPrincipal String email, @RequestBody @Valid PasswordChangeRequestDto passwordChangeRequestDto) {
+    public ResponseEntity<String> changePassword(@AuthenticationPrincipal(expression = "email") String email, @RequestBody @Valid PasswordChangeRequestDto passwordChangeRequestDto) {
         String changePassword = userService.changePassword(email
                 , passwordChangeRequestDto.getOldPassword(), passwordChangeRequestDto.getNewPassword());
         return ResponseEntity.status(HttpStatus.OK).body(changePassword);
@@ -182,7 +182,7 @@ public class UserController {
     @Operation(summary = "등반한 산 전체조회", description = "등반한 산 전체조회")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = UserMountainResponseDto.class)))})
-    public ResponseEntity<Page<UserMountainResponseDto>> getAllUserMountains(@AuthenticationPrincipal String email
+    public ResponseEntity<Page<UserMountainResponseDto>> getAllUserMountains(@AuthenticationPrincipal(expression = "email") String email
             , @RequestParam(name = "size", defaultValue = "5") Integer size
             , @RequestParam(name = "page", defaultValue = "0") Integer page) {
         Page<UserMountainResponseDto> allUserMountains = userService.findAllUserMountains(email, PageRequest.of(page, size));
@@ -206,7 +206,7 @@ public class UserController {
     @Operation(summary = "선호카테고리 생성", description = "선호카테고리 생성")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = List.class)))})
-    public ResponseEntity<List<Long>> savePreferredCategory(@AuthenticationPrincipal String email, @RequestBody @Valid CategoriesRequestDto categoriesRequestDto) {
+    public ResponseEntity<List<Long>> savePreferredCategory(@AuthenticationPrincipal(expression = "email") String email, @RequestBody @Valid CategoriesRequestDto categoriesRequestDto) {
         // 지우고 생성
         userService.deleteAllPreferredCategory(email);
         List<Long> longList = userService.savePreferredCategories(email, categoriesRequestDto.getCategoryIds());
@@ -216,7 +216,7 @@ public class UserController {
     @Operation(summary = "선호카테고리 전체조회", description = "선호카테고리 전체조회")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = List.class)))})
-    public ResponseEntity<List<PreferredCategoryResponseDto>> findPreferredCategories(@AuthenticationPrincipal String email) {
+    public ResponseEntity<List<PreferredCategoryResponseDto>> findPreferredCategories(@AuthenticationPrincipal(expression = "email") String email) {
         List<PreferredCategoryResponseDto> allPreferredCategories = userService.findAllPreferredCategories(email);
         return ResponseEntity.status(HttpStatus.OK).body(allPreferredCategories);
     }
@@ -225,7 +225,7 @@ public class UserController {
     @Operation(summary = "완료(true)/진행 중 업적(false) 조회", description = "완료(true)/진행 중 업적(false) 조회")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = UserChallengeCompletionResponseDto.class)))})
-    public ResponseEntity<Page<UserChallengeCompletionResponseDto>> getAllUserCompletions(@AuthenticationPrincipal String email
+    public ResponseEntity<Page<UserChallengeCompletionResponseDto>> getAllUserCompletions(@AuthenticationPrincipal(expression = "email") String email
             , @RequestParam(name = "completion") boolean completion
             , @RequestParam(name = "size", defaultValue = "5") Integer size
             , @RequestParam(name = "page", defaultValue = "0") Integer page) {
@@ -237,7 +237,7 @@ public class UserController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공", content = @Content(schema = @Schema(implementation = RankingResponseDto.class)))})
     @GetMapping("/ranking")
-    public ResponseEntity<RankingResponseDto> getIndividualRanking(@AuthenticationPrincipal String email) {
+    public ResponseEntity<RankingResponseDto> getIndividualRanking(@AuthenticationPrincipal(expression = "email") String email) {
         RankingResponseDto rankingDto = userService.getIndividualRanking(email);
         return ResponseEntity.ok(rankingDto);
     }
@@ -0,0 +1,35 @@
+package com.example.santa.domain.user.dto;
+
+import com.example.santa.domain.user.entity.Role;
+import com.example.santa.domain.user.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// UserCacheService 에 저장하는 User 조회용 값 (엔티티 대신 캐시, 수정은 엔티티로)
+// 비밀번호 해시는 넣지 않음 (로그인은 UserDetailsServiceImpl 에서 DB 로 확인)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSnapshot {
+    private Long id;
+    private String email;
+    private String name;
+    private String nickname;
+    private String phoneNumber;
+    private String image;
+    private Role role;
+    private double accumulatedHeight;
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(
+                user.getId(),
+                user.getEmail(),
+                user.getName(),
+                user.getNickname(),
+                user.getPhoneNumber(),
+                user.getImage(),
+                user.getRole(),
+                user.getAccumulatedHeight());
+    }
+}
@@ -4,43 +4,39 @@ import jakarta.persistence.Embeddable;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Embeddable
 public class Password {
-    private static final PasswordEncoder passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
-
-
+    /*
+    * 해시 계산은 요청 스레드가 아닌 BoundedPasswordEncoder 의 풀에서 실행되도록
+    * 서비스에서 PasswordEncoder 빈을 받아서 넘겨준다.
+    * */
     private String encodePassword;
 
-    public Password(final String rawPassword) {
-        this.encodePassword = encodePassword(rawPassword);
-    }
-
-    private String encodePassword(final String rawPassword) {
-        return passwordEncoder.encode(rawPassword);
+    public Password(final String rawPassword, final PasswordEncoder passwordEncoder) {
+        this.encodePassword = passwordEncoder.encode(rawPassword);
     }
 
-    public void changePassword(final String oldRawPassword, final String newRawPassword) {
-        if (!isMatches(oldRawPassword)) {
+    public void changePassword(final String oldRawPassword, final String newRawPassword, final PasswordEncoder passwordEncoder) {
+        if (!isMatches(oldRawPassword, passwordEncoder)) {
             throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
-        } else if (isMatches(newRawPassword)) {
+        } else if (isMatches(newRawPassword, passwordEncoder)) {
             throw new IllegalArgumentException("기존 비밀번호로는 변경할 수 없습니다..");
         }
-        this.encodePassword = encodePassword(newRawPassword);
+        this.encodePassword = passwordEncoder.encode(newRawPassword);
 
     }
 
-    public void resetPassword(final String newRawPassword) {
-        this.encodePassword = encodePassword(newRawPassword);
+    public void resetPassword(final String newRawPassword, final PasswordEncoder passwordEncoder) {
+        this.encodePassword = passwordEncoder.encode(newRawPassword);
     }
 
 
 
-    private boolean isMatches(String rawPassword) {
+    private boolean isMatches(String rawPassword, PasswordEncoder passwordEncoder) {
         return passwordEncoder.matches(rawPassword, encodePassword);
     }
 
@@ -36,7 +36,7 @@ public class CustomOAuth2LoginSuccessHandler extends SimpleUrlAuthenticationSucc
         response.setStatus(HttpServletResponse.SC_OK);
 
         String accessToken = jwtToken.getAccessToken();
-        String refreshToken = jwtToken.getAccessToken();
+        String refreshToken = jwtToken.getRefreshToken();
 
         // 응답 바디에 추가 정보 입력
         Map<String, Object> data = new HashMap<>();
@@ -10,9 +10,11 @@ import com.example.santa.domain.usermountain.entity.UserMountain;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Arrays;
 import java.util.List;
@@ -36,6 +38,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT uc FROM UserChallenges uc WHERE uc.user.id = :userid AND uc.isCompleted IS NULL")
     Page<UserChallenge> findByUserIdAndIsCompletedNull(Long userid,Pageable pageable);
 
+    // 누적 높이는 엔티티를 읽고 저장하지 않고 DB 에서 바로 증가 (동시 인증 시 값 유실 방지, 해당 컬럼만 UPDATE)
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.accumulatedHeight = u.accumulatedHeight + :height WHERE u.id = :userId")
+    int increaseAccumulatedHeight(@Param("userId") Long userId, @Param("height") double height);
+
     Optional<User> findBySocialTypeAndSocialId(SocialType socialType, String socialId);
 
     //    Page<User> findAllByNameContainingAndNicknameContaining (String name, String nickname, Pageable pageable);
@@ -0,0 +1,16 @@
+package com.example.santa.domain.user.service;
+
+import com.example.santa.domain.user.dto.UserSnapshot;
+
+import java.util.Optional;
+
+public interface UserCacheService {
+
+    // 로컬 캐시 -> Redis -> DB 순서로 조회
+    Optional<UserSnapshot> findByEmail(String email);
+
+    Optional<UserSnapshot> findById(Long userId);
+
+    // 트랜잭션 안이면 커밋 후에 삭제, 다른 서버의 로컬 캐시도 삭제
+    void evict(Long userId);
+}
@@ -0,0 +1,194 @@
+package com.example.santa.domain.user.service;
+
+import com.example.santa.domain.user.dto.UserSnapshot;
+import com.example.santa.domain.user.entity.User;
+import com.example.santa.domain.user.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/*
+ * User 2단계 캐시 (로컬 Caffeine -> Redis -> MySQL)
+ * email, id 두 키로 같은 UserSnapshot 을 저장한다.
+ * 프로필/비밀번호/권한이 바뀌면 evict() 로 커밋 후 로컬과 Redis 에서 지우고,
+ * Redis pub/sub 으로 다른 서버에도 알려서 로컬 캐시를 지우게 한다.
+ * 알림을 놓쳐도 로컬은 LOCAL_TTL, Redis 는 REDIS_TTL 뒤에 만료된다.
+ *
+ * 메트릭 : user.cache.requests{tier=local|redis, result=hit|miss}, user.cache.db.loads
+ */
+@Slf4j
+@Service
+public class UserCacheServiceImpl implements UserCacheService, MessageListener {
+
+    private static final String CHANNEL = "user:cache:evicted";
+    // v2 : 비밀번호 해시를 뺀 형식 (이전 형식 값은 읽지 않음)
+    private static final String KEY_PREFIX = "user:cache:v2:";
+    private static final Duration LOCAL_TTL = Duration.ofSeconds(30);
+    private static final Duration REDIS_TTL = Duration.ofMinutes(10);
+    private static final int LOCAL_MAX_SIZE = 10_000;
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, UserSnapshot> localCache = Caffeine.newBuilder()
+            .maximumSize(LOCAL_MAX_SIZE)
+            .expireAfterWrite(LOCAL_TTL)
+            .build();
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter dbLoads;
+
+    public UserCacheServiceImpl(UserRepository userRepository
+            , StringRedisTemplate stringRedisTemplate
+            , ObjectMapper objectMapper
+            , RedisMessageListenerContainer redisMessageListenerContainer
+            , MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+
+        this.localHits = meterRegistry.counter("user.cache.requests", "tier", "local", "result", "hit");
+        this.localMisses = meterRegistry.counter("user.cache.requests", "tier", "local", "result", "miss");
+        this.redisHits = meterRegistry.counter("user.cache.requests", "tier", "redis", "result", "hit");
+        this.redisMisses = meterRegistry.counter("user.cache.requests", "tier", "redis", "result", "miss");
+        this.dbLoads = meterRegistry.counter("user.cache.db.loads");
+    }
+
+    @Override
+    public Optional<UserSnapshot> findByEmail(String email) {
+        return find(emailKey(email), () -> userRepository.findByEmail(email));
+    }
+
+    @Override
+    public Optional<UserSnapshot> findById(Long userId) {
+        return find(idKey(userId), () -> userRepository.findById(userId));
+    }
+
+    private Optional<UserSnapshot> find(String key, Supplier<Optional<User>> loader) {
+        UserSnapshot snapshot = localCache.getIfPresent(key);
+        if (snapshot != null) {
+            localHits.increment();
+            return Optional.of(snapshot);
+        }
+        localMisses.increment();
+
+        snapshot = readRedis(key);
+        if (snapshot != null) {
+            redisHits.increment();
+            putLocal(snapshot);
+            return Optional.of(snapshot);
+        }
+        redisMisses.increment();
+
+        // 없는 유저는 캐시하지 않음 (가입 직후 바로 조회될 수 있도록)
+        dbLoads.increment();
+        Optional<UserSnapshot> loaded = loader.get().map(UserSnapshot::from);
+        loaded.ifPresent(user -> {
+            writeRedis(user);
+            putLocal(user);
+        });
+        return loaded;
+    }
+
+    @Override
+    public void evict(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictNow(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictNow(userId);
+            }
+        });
+    }
+
+    private void evictNow(Long userId) {
+        try {
+            UserSnapshot cached = readRedis(idKey(userId));
+            stringRedisTemplate.delete(idKey(userId));
+            if (cached != null) {
+                stringRedisTemplate.delete(emailKey(cached.getEmail()));
+            }
+            evictLocal(userId, cached);
+            stringRedisTemplate.convertAndSend(CHANNEL, String.valueOf(userId));
+        } catch (RuntimeException e) {
+            // Redis 장애 시에도 내 로컬 캐시는 지움, 나머지는 TTL 로 만료
+            evictLocal(userId, null);
+            log.warn("user cache evict failed : {}", userId, e);
+        }
+    }
+
+    // 다른 서버(또는 나)의 삭제 알림
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evictLocal(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)), null);
+    }
+
+    private void evictLocal(Long userId, UserSnapshot known) {
+        UserSnapshot local = localCache.getIfPresent(idKey(userId));
+        localCache.invalidate(idKey(userId));
+        if (local != null) {
+            localCache.invalidate(emailKey(local.getEmail()));
+        }
+        if (known != null) {
+            localCache.invalidate(emailKey(known.getEmail()));
+        }
+    }
+
+    private void putLocal(UserSnapshot snapshot) {
+        localCache.put(idKey(snapshot.getId()), snapshot);
+        localCache.put(emailKey(snapshot.getEmail()), snapshot);
+    }
+
+    private UserSnapshot readRedis(String key) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(key);
+            return json == null ? null : objectMapper.readValue(json, UserSnapshot.class);
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Redis 장애나 형식이 바뀐 값은 DB 에서 다시 읽음
+            log.warn("user cache read failed : {}", key, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(UserSnapshot snapshot) {
+        try {
+            String json = objectMapper.writeValueAsString(snapshot);
+            stringRedisTemplate.opsForValue().set(idKey(snapshot.getId()), json, REDIS_TTL);
+            stringRedisTemplate.opsForValue().set(emailKey(snapshot.getEmail()), json, REDIS_TTL);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("user cache write failed : {}", snapshot.getId(), e);
+        }
+    }
+
+    private static String idKey(Long userId) {
+        return KEY_PREFIX + "id:" + userId;
+    }
+
+    private static String emailKey(String email) {
+        return KEY_PREFIX + "email:" + email;
+    }
+}
@@ -22,7 +22,7 @@ public interface UserService {
     JwtToken signIn(UserSignInRequestDto userSignInRequestDto);
 
     // refreshToken 으로 accessToken 재발급
-    String generateAccessToken(String refreshToken);
+    JwtToken reissueToken(String refreshToken);
     // read
     UserResponseDto findUserByEmail(String email);
 
@@ -7,8 +7,7 @@ import com.example.santa.domain.preferredcategory.dto.PreferredCategoryResponseD
 import com.example.santa.domain.preferredcategory.entity.PreferredCategory;
 import com.example.santa.domain.preferredcategory.repository.PreferredCategoryRepository;
 import com.example.santa.domain.rank.dto.RankingResponseDto;
-import com.example.santa.domain.rank.entity.Ranking;
-import com.example.santa.domain.rank.repository.RankingRepository;
+import com.example.santa.domain.rank.service.RankingService;
 import com.example.santa.domain.user.dto.*;
 import com.example.santa.domain.user.entity.Password;
 import com.example.santa.domain.user.entity.Role;
@@ -21,6 +20,7 @@ import com.example.santa.global.exception.ExceptionCode;
 import com.example.santa.global.exception.ServiceLogicException;
 import com.example.santa.global.security.jwt.JwtToken;
 import com.example.santa.global.security.jwt.JwtTokenProvider;
+import com.example.santa.global.security.jwt.TokenRevocationService;
 import com.example.santa.global.util.S3ImageService;
 import com.example.santa.global.util.mapsturct.PreferredCategoryResponseDtoMapper;
 import com.example.santa.global.util.mapsturct.UserChallengeCompletionResponseMapper;
@@ -32,6 +32,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -51,7 +52,7 @@ public class UserServiceImpl implements UserService {
     private final JwtTokenProvider jwtTokenProvider;
     private final PreferredCategoryRepository preferredCategoryRepository;
     private final CategoryRepository categoryRepository;
-    private final RankingRepository rankingRepository;
+    private final RankingService rankingService;
     private final S3ImageService s3ImageService;
 
     private final UserMountainResponseDtoMapper userMountainResponseDtoMapper;
@@ -60,6 +61,9 @@ public class UserServiceImpl implements UserService {
 
 
     private final UserChallengeRepository userChallengeRepository;
+    private final UserCacheService userCacheService;
+    private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationService tokenRevocationService;
 
     @Transactional
     @Override
@@ -73,7 +77,7 @@ public class UserServiceImpl implements UserService {
 
         User user = User.builder()
                 .email(request.getEmail())
-                .password(new Password(request.getPassword()))
+                .password(new Password(request.getPassword(), passwordEncoder))
                 .name(request.getName())
                 .nickname(request.getNickname())
                 .phoneNumber(request.getPhoneNumber())
@@ -103,27 +107,35 @@ public class UserServiceImpl implements UserService {
     @Transactional
     @Override
     public JwtToken signIn(UserSignInRequestDto userSignInRequestDto) {
-        User user = userRepository.findByEmail(userSignInRequestDto.getEmail())
+        UserSnapshot user = userCacheService.findByEmail(userSignInRequestDto.getEmail())
                 .orElseThrow(() -> new ServiceLogicException(ExceptionCode.USER_NOT_FOUND));
         UsernamePasswordAuthenticationToken authenticationToken
-                = new UsernamePasswordAuthenticationToken(userSignInRequestDto.getEmail(), userSignInRequestDto.getPassword(), user.getAuthorities());
+                = new UsernamePasswordAuthenticationToken(userSignInRequestDto.getEmail(), userSignInRequestDto.getPassword());
         authenticationManagerBuilder.getObject().authenticate(authenticationToken);
-        JwtToken jwtToken = jwtTokenProvider.generateToken(authenticationToken);
+        // 토큰에 유저 id 를 넣기 위해 조회한 User 로 생성
+        JwtToken jwtToken = jwtTokenProvider.generateToken(user);
         return jwtToken;
     }
 
-    @Transactional
+    // 사용한 refresh 토큰은 폐기하고 access, refresh 토큰을 함께 새로 발급
     @Override
-    public String generateAccessToken(String refreshToken) {
-        return jwtTokenProvider.generateAccessTokenFromRefreshToken(refreshToken);
+    public JwtToken reissueToken(String refreshToken) {
+        return jwtTokenProvider.rotateRefreshToken(refreshToken);
     }
 
     @Override
     public UserResponseDto findUserByEmail(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ServiceLogicException(ExceptionCode.USER_NOT_FOUND));
+        UserSnapshot user = findSnapshot(email);
         log.info("role {}", user.getRole());
-        UserResponseDto dto = userResponseDtoMapper.toDto(user);
+        UserResponseDto dto = UserResponseDto.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .nickname(user.getNickname())
+                .name(user.getName())
+                .phoneNumber(user.getPhoneNumber())
+                .image(user.getImage())
+                .accumulatedHeight(user.getAccumulatedHeight())
+                .build();
         log.info("dto = {}", dto);
         return dto;
     }
@@ -164,6 +176,7 @@ public class UserServiceImpl implements UserService {
                 .update(userUpdateRequestDto.getNickname()
                         , userUpdateRequestDto.getPhoneNumber()
                         , imageUrl);
+        userCacheService.evict(user.getId());
 
         return userResponseDtoMapper.toDto(user);
     }
@@ -174,14 +187,16 @@ public class UserServiceImpl implements UserService {
     public String changePassword(String email, String oldPassword, String newPassword) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ServiceLogicException(ExceptionCode.USER_NOT_FOUND));
-        user.getPasswordForChange().changePassword(oldPassword, newPassword);
+        user.getPasswordForChange().changePassword(oldPassword, newPassword, passwordEncoder);
+        userCacheService.evict(user.getId());
+        // 비밀번호가 바뀌면 기존에 발급된 토큰 모두 폐기
+        tokenRevocationService.revokeAll(user.getId());
         return user.getEmail();
     }
 
     @Override
     public Page<UserMountainResponseDto> findAllUserMountains(String email, Pageable pageable) {
-        User byEmail = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ServiceLogicException(ExceptionCode.USER_NOT_FOUND));
+        UserSnapshot byEmail = findSnapshot(email);
         Page<UserMountainResponseDto> pageDto = userRepository.findUserMountainsByUserId(byEmail.getId(), pageable)
                 .map(userMountainResponseDtoMapper::toDto);
         return pageDto;
@@ -190,8 +205,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public Page<UserChallengeCompletionResponseDto> findChallengesByCompletion(String email, boolean completion, Pageable pageable) {
-        User byEmail = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ServiceLogicException(ExceptionCode.USER_NOT_FOUND));
+        UserSnapshot byEmail = findSnapshot(email);
         Page<UserChallengeCompletionResponseDto> completionDto;
         if(completion) {
             completionDto = userRepository.findByUserIdAndIsCompletedTrue(byEmail.getId(), pageable)
@@ -205,18 +219,9 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public RankingResponseDto getIndividualRanking(String email) {
-        // 전체 랭킹 목록을 점수 내림차순으로 가져옵니다.
-        List<Ranking> rankings = rankingRepository.findAllByOrderByScoreDesc();
-        long rank = 1;
-        for (Ranking ranking : rankings) {
-            if (ranking.getUser().getEmail().equals(email)) {
-                // 해당 사용자의 랭킹 정보를 반환합니다.
-                return new RankingResponseDto(rank,ranking.getId(),ranking.getUser().getNickname(), ranking.getUser().getImage(), ranking.getScore());
-            }
-            rank++;
-        }
-        // 사용자의 랭킹 정보가 없을 경우 예외 처리나 null 반환 등의 로직이 필요
-        throw new RuntimeException("User ranking not found");
+        // /api/ranks 와 같은 순위 계산(동점자 동일 순위)을 사용
+        return rankingService.getRankingByEmail(email)
+                .orElseThrow(() -> new ServiceLogicException(ExceptionCode.RANKING_NOT_FOUND));
     }
 
 
@@ -224,15 +229,16 @@ public class UserServiceImpl implements UserService {
     public String resetPassword(String email, String newPassword) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ServiceLogicException(ExceptionCode.USER_NOT_FOUND));
-        user.getPasswordForChange().resetPassword(newPassword);
+        user.getPasswordForChange().resetPassword(newPassword, passwordEncoder);
+        userCacheService.evict(user.getId());
+        tokenRevocationService.revokeAll(user.getId());
         return user.getEmail();
     }
 
     @Transactional
     @Override
     public Long savePreferredCategory(String email, PreferredCategoryRequestDto preferredCategoryRequestDto) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ServiceLogicException(ExceptionCode.USER_NOT_FOUND));
+        User user = userRepository.getReferenceById(findSnapshot(email).getId());
         Category category = categoryRepository.findById(preferredCategoryRequestDto.getCategoryId())
                 .orElseThrow(() -> new ServiceLogicException(ExceptionCode.CATEGORY_NOT_FOUND));
         PreferredCategory save = preferredCategoryRepository.save(PreferredCategory.builder()
@@ -245,8 +251,7 @@ public class UserServiceImpl implements UserService {
     @Transactional
     @Override
     public List<Long> savePreferredCategories(String email, List<Long> categoryIds) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ServiceLogicException(ExceptionCode.USER_NOT_FOUND));
+        User user = userRepository.getReferenceById(findSnapshot(email).getId());
 
 //        List<Long> createdPreferredCategories = new ArrayList<>();
 
@@ -281,8 +286,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public List<PreferredCategoryResponseDto> findAllPreferredCategories(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ServiceLogicException(ExceptionCode.USER_NOT_FOUND));
+        UserSnapshot user = findSnapshot(email);
         List<PreferredCategory> allByUserId = preferredCategoryRepository.findAllByUserId(user.getId());
         List<PreferredCategoryResponseDto> dtoList = preferredCategoryResponseDtoMapper.toDtoList(allByUserId);
         return dtoList;
@@ -291,11 +295,16 @@ public class UserServiceImpl implements UserService {
     @Transactional
     @Override
     public void deleteAllPreferredCategory(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ServiceLogicException(ExceptionCode.USER_NOT_FOUND));
+        UserSnapshot user = findSnapshot(email);
         List<PreferredCategory> allByUserId = preferredCategoryRepository.findAllByUserId(user.getId());
         preferredCategoryRepository.deleteAll(allByUserId);
     }
+
+    // 조회만 하는 경우 엔티티 대신 캐시 사용 (수정할 때는 엔티티를 조회)
+    private UserSnapshot findSnapshot(String email) {
+        return userCacheService.findByEmail(email)
+                .orElseThrow(() -> new ServiceLogicException(ExceptionCode.USER_NOT_FOUND));
+    }
 }
 
 
@@ -16,6 +16,7 @@ import java.util.Date;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity(name = "UserChallenges")
+@Table(name = "user_challenges", uniqueConstraints = @UniqueConstraint(name = "uk_user_challenge", columnNames = {"user_id", "challenge_id"}))
 public class UserChallenge {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
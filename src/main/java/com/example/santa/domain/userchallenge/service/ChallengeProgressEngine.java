@@ -0,0 +1,12 @@
+package com.example.santa.domain.userchallenge.service;
+
+import java.time.LocalDate;
+
+public interface ChallengeProgressEngine {
+
+    /*
+    * 카테고리에 속한 모든 챌린지 진행도를 1 올리고, 이번에 새로 완료된 챌린지 수를 반환
+    * eventId : 같은 이벤트가 다시 들어오면 진행도를 올리지 않고 처음 결과를 반환 (null 이면 확인하지 않음)
+    * */
+    int applyProgress(Long userId, Long categoryId, LocalDate date, Long eventId);
+}
@@ -0,0 +1,90 @@
+package com.example.santa.domain.userchallenge.service;
+
+import com.example.santa.domain.challege.dto.ChallengeRule;
+import com.example.santa.domain.challege.service.ChallengeRuleIndex;
+import jakarta.transaction.Transactional;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * 챌린지 진행도 처리
+ * 챌린지마다 조회/생성/저장하지 않고 카테고리 단위로
+ * 1. 진행도 증가 (없으면 생성) upsert 한 번
+ * 2. 기준을 채운 챌린지 완료 처리 UPDATE 한 번
+ * 으로 끝내서 카테고리에 챌린지가 늘어나도 쿼리 수가 같다.
+ * 챌린지 정의(id, 달성 기준)는 ChallengeRuleIndex 에서 가져오므로 챌린지 테이블은 읽지 않는다.
+ * challenge.progress.write-behind=true 이면 RedisChallengeProgressEngine 을 대신 사용한다.
+ */
+@Service
+@ConditionalOnProperty(name = "challenge.progress.write-behind", havingValue = "false", matchIfMissing = true)
+public class ChallengeProgressEngineImpl implements ChallengeProgressEngine {
+
+    private final ChallengeRuleIndex challengeRuleIndex;
+    private final JdbcTemplate jdbcTemplate;
+
+    public ChallengeProgressEngineImpl(ChallengeRuleIndex challengeRuleIndex, JdbcTemplate jdbcTemplate) {
+        this.challengeRuleIndex = challengeRuleIndex;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional
+    @Override
+    public int applyProgress(Long userId, Long categoryId, LocalDate date, Long eventId) {
+        List<ChallengeRule> rules = challengeRuleIndex.getRules(categoryId);
+        if (rules.isEmpty()) {
+            return 0;
+        }
+        increaseProgress(userId, rules);
+        return completeReachedChallenges(userId, rules, date);
+    }
+
+    // INSERT ... VALUES (user, challenge, 1), ... ON DUPLICATE KEY UPDATE progress = progress + 1
+    private void increaseProgress(Long userId, List<ChallengeRule> rules) {
+        StringBuilder sql = new StringBuilder("INSERT INTO user_challenges (user_id, challenge_id, progress) VALUES ");
+        List<Object> args = new ArrayList<>();
+        for (int i = 0; i < rules.size(); i++) {
+            sql.append(i == 0 ? "(?, ?, 1)" : ", (?, ?, 1)");
+            args.add(userId);
+            args.add(rules.get(i).getChallengeId());
+        }
+        sql.append(" ON DUPLICATE KEY UPDATE progress = progress + 1");
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    // 챌린지별 달성 기준을 CASE 로 넘겨서 한 번에 완료 처리, 새로 완료된 수 반환
+    private int completeReachedChallenges(Long userId, List<ChallengeRule> rules, LocalDate date) {
+        StringBuilder inClause = new StringBuilder();
+        StringBuilder caseClause = new StringBuilder("CASE challenge_id");
+        List<Object> inArgs = new ArrayList<>();
+        List<Object> caseArgs = new ArrayList<>();
+        for (ChallengeRule rule : rules) {
+            if (rule.getClearStandard() == null) {
+                continue;
+            }
+            inClause.append(inArgs.isEmpty() ? "?" : ", ?");
+            inArgs.add(rule.getChallengeId());
+            caseClause.append(" WHEN ? THEN ?");
+            caseArgs.add(rule.getChallengeId());
+            caseArgs.add(rule.getClearStandard());
+        }
+        if (inArgs.isEmpty()) {
+            return 0;
+        }
+        caseClause.append(" END");
+
+        String sql = "UPDATE user_challenges SET is_completed = true, completion_date = ? " +
+                "WHERE user_id = ? AND challenge_id IN (" + inClause + ") " +
+                "AND (is_completed IS NULL OR is_completed = false) AND progress >= " + caseClause;
+        List<Object> args = new ArrayList<>();
+        args.add(date);
+        args.add(userId);
+        args.addAll(inArgs);
+        args.addAll(caseArgs);
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+}
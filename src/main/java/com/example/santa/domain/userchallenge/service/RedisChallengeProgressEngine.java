@@ -0,0 +1,190 @@
+package com.example.santa.domain.userchallenge.service;
+
+import com.example.santa.domain.challege.dto.ChallengeRule;
+import com.example.santa.domain.challege.service.ChallengeRuleIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.*;
+
+/*
+ * Redis 기반 챌린지 진행도 (challenge.progress.write-behind=true)
+ * 진행도는 유저별 해시(challenge:progress:{userId})에 p:{챌린지 id} = 진행도, c:{챌린지 id} = 완료일(epochDay) 로 저장한다.
+ * 증가와 완료 판정은 Lua 스크립트 한 번으로 처리하고, 바뀐 유저는 dirty 셋에 넣어 두었다가
+ * flush() 가 주기적으로 MySQL 에 JDBC 배치 upsert 로 반영한다.
+ *
+ * 복구
+ * - flush 는 dirty 셋을 flushing 으로 이름을 바꾼 뒤 DB 반영이 끝나야 flushing 을 지운다.
+ *   중간에 죽으면 다음 flush 가 flushing 에 남은 유저부터 다시 반영한다. (값을 그대로 덮어쓰므로 여러 번 반영해도 같음)
+ * - 해시가 없으면(만료, Redis 재시작) DB 값으로 다시 채운 뒤 증가시킨다.
+ *
+ * 중복 반영 방지
+ * - Redis 증가는 DB 트랜잭션과 같이 롤백되지 않으므로, 반영한 이벤트 id 와 그때 완료된 챌린지 수를
+ *   유저별 해시(challenge:progress:applied:{userId})에 같은 스크립트 안에서 기록한다.
+ * - 아웃박스 배치가 실패해서 같은 이벤트가 다시 들어오면 진행도는 올리지 않고 기록된 완료 수를 반환하므로
+ *   DB 쪽(기간 랭킹 점수, 랭킹)만 다시 반영된다.
+ *
+ * 모드를 끌 때는 종료 시 flush 되지만, 다시 켤 때는 이전 해시가 만료(PROGRESS_TTL_SECONDS)된 뒤에 켜야 한다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "challenge.progress.write-behind", havingValue = "true")
+public class RedisChallengeProgressEngine implements ChallengeProgressEngine {
+
+    private static final String PROGRESS_KEY_PREFIX = "challenge:progress:";
+    private static final String DIRTY_KEY = "challenge:progress:dirty";
+    private static final String FLUSHING_KEY = "challenge:progress:flushing";
+    private static final String APPLIED_KEY_PREFIX = "challenge:progress:applied:";
+    private static final long PROGRESS_TTL_SECONDS = 60 * 60;
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    // 해시가 없을 때만 DB 값으로 채움 (동시에 채우려 해도 한 번만 적용)
+    private static final DefaultRedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "redis.call('HSET', KEYS[1], 'seeded', '1') " +
+            "for i = 2, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1", Long.class);
+
+    // KEYS: 진행도, dirty, 반영한 이벤트 / ARGV: userId, 완료일, ttl, 이벤트 id('' 이면 확인 안 함), (챌린지 id, 달성 기준)...
+    // 새로 완료된 챌린지 수 반환, 이미 반영한 이벤트면 처음 반환한 값
+    private static final DefaultRedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "if ARGV[4] ~= '' then " +
+            "  local applied = redis.call('HGET', KEYS[3], ARGV[4]) " +
+            "  if applied then return tonumber(applied) end " +
+            "end " +
+            "local completed = 0 " +
+            "for i = 5, #ARGV, 2 do " +
+            "  local progress = redis.call('HINCRBY', KEYS[1], 'p:' .. ARGV[i], 1) " +
+            "  local standard = tonumber(ARGV[i + 1]) " +
+            "  if standard >= 0 and progress >= standard and redis.call('HSETNX', KEYS[1], 'c:' .. ARGV[i], ARGV[2]) == 1 then " +
+            "    completed = completed + 1 " +
+            "  end " +
+            "end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
+            "redis.call('SADD', KEYS[2], ARGV[1]) " +
+            "if ARGV[4] ~= '' then " +
+            "  redis.call('HSET', KEYS[3], ARGV[4], completed) " +
+            "  redis.call('EXPIRE', KEYS[3], ARGV[3]) " +
+            "end " +
+            "return completed", Long.class);
+
+    // 이전 flush 가 끝나지 않았으면 그 목록을 그대로, 아니면 dirty -> flushing 으로 옮긴 목록을 반환
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> CLAIM_DIRTY_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 0 then " +
+            "  if redis.call('EXISTS', KEYS[1]) == 0 then return {} end " +
+            "  redis.call('RENAME', KEYS[1], KEYS[2]) " +
+            "end " +
+            "return redis.call('SMEMBERS', KEYS[2])", List.class);
+
+    private static final String UPSERT_SQL = "INSERT INTO user_challenges (user_id, challenge_id, progress, is_completed, completion_date) " +
+            "VALUES (?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE progress = GREATEST(progress, VALUES(progress)), " +
+            "is_completed = COALESCE(VALUES(is_completed), is_completed), " +
+            "completion_date = COALESCE(completion_date, VALUES(completion_date))";
+
+    private final ChallengeRuleIndex challengeRuleIndex;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    public RedisChallengeProgressEngine(ChallengeRuleIndex challengeRuleIndex, StringRedisTemplate stringRedisTemplate, JdbcTemplate jdbcTemplate) {
+        this.challengeRuleIndex = challengeRuleIndex;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int applyProgress(Long userId, Long categoryId, LocalDate date, Long eventId) {
+        List<ChallengeRule> rules = challengeRuleIndex.getRules(categoryId);
+        if (rules.isEmpty()) {
+            return 0;
+        }
+        String key = PROGRESS_KEY_PREFIX + userId;
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+            seed(userId, key);
+        }
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(userId));
+        args.add(String.valueOf(date.toEpochDay()));
+        args.add(String.valueOf(PROGRESS_TTL_SECONDS));
+        args.add(eventId == null ? "" : String.valueOf(eventId));
+        for (ChallengeRule rule : rules) {
+            args.add(String.valueOf(rule.getChallengeId()));
+            args.add(String.valueOf(rule.getClearStandard() == null ? -1 : rule.getClearStandard()));
+        }
+        Long completed = stringRedisTemplate.execute(INCREMENT_SCRIPT, List.of(key, DIRTY_KEY, APPLIED_KEY_PREFIX + userId), args.toArray());
+        return completed == null ? 0 : completed.intValue();
+    }
+
+    private void seed(Long userId, String key) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(PROGRESS_TTL_SECONDS));
+        jdbcTemplate.query("SELECT challenge_id, progress, is_completed, completion_date FROM user_challenges WHERE user_id = ?",
+                rs -> {
+                    long challengeId = rs.getLong("challenge_id");
+                    args.add("p:" + challengeId);
+                    args.add(String.valueOf(rs.getInt("progress")));
+                    if (rs.getBoolean("is_completed")) {
+                        Date completionDate = rs.getDate("completion_date");
+                        args.add("c:" + challengeId);
+                        args.add(String.valueOf(completionDate == null ? LocalDate.now().toEpochDay() : completionDate.toLocalDate().toEpochDay()));
+                    }
+                }, userId);
+        stringRedisTemplate.execute(SEED_SCRIPT, List.of(key), args.toArray());
+    }
+
+    @Scheduled(fixedDelayString = "${challenge.progress.flush-interval-ms:5000}")
+    public void flush() {
+        @SuppressWarnings("unchecked")
+        List<String> userIds = stringRedisTemplate.execute(CLAIM_DIRTY_SCRIPT, List.of(DIRTY_KEY, FLUSHING_KEY));
+        if (userIds == null || userIds.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>();
+        for (String userId : userIds) {
+            Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(PROGRESS_KEY_PREFIX + userId);
+            for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+                String field = (String) entry.getKey();
+                if (!field.startsWith("p:")) {
+                    continue;
+                }
+                String challengeId = field.substring(2);
+                Object completedOn = entries.get("c:" + challengeId);
+                rows.add(new Object[]{
+                        Long.valueOf(userId),
+                        Long.valueOf(challengeId),
+                        Integer.valueOf((String) entry.getValue()),
+                        completedOn == null ? null : Boolean.TRUE,
+                        completedOn == null ? null : Date.valueOf(LocalDate.ofEpochDay(Long.parseLong((String) completedOn)))
+                });
+            }
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, FLUSH_BATCH_SIZE, (ps, row) -> {
+            ps.setLong(1, (Long) row[0]);
+            ps.setLong(2, (Long) row[1]);
+            ps.setInt(3, (Integer) row[2]);
+            ps.setObject(4, row[3], Types.BOOLEAN);
+            ps.setObject(5, row[4], Types.DATE);
+        });
+        // DB 반영이 끝난 뒤에만 지움 (실패하면 다음 flush 에서 다시 반영)
+        stringRedisTemplate.delete(FLUSHING_KEY);
+        log.debug("flushed challenge progress : {} users, {} rows", userIds.size(), rows.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -1,10 +1,7 @@
 package com.example.santa.domain.userchallenge.service;
 
-import com.example.santa.domain.category.entity.Category;
-import com.example.santa.domain.user.entity.User;
-
 public interface UserChallengeService {
-    void updateProgress(String email, Long userMountainId);
+    int updateProgress(Long userId, Long categoryId, Long eventId);
 
     void updateUserChallengeOnMeetingJoin(Long meetingId,Long userId);
 
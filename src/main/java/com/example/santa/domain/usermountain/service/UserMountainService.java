@@ -13,6 +13,6 @@ public interface UserMountainService {
 
 //    UserMountainResponseDto verifyAndCreateUserMountain(double latitude, double longitude, LocalDate climbDate, String email );
 
-    UserMountainResponseDto verifyAndCreateUserMountain(UserMountainVerifyRequestDto userMountainVerifyRequestDto,String email);
+    UserMountainResponseDto verifyAndCreateUserMountain(UserMountainVerifyRequestDto userMountainVerifyRequestDto, Long userId);
 
 }
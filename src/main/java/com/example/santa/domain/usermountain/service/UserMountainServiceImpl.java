@@ -5,13 +5,15 @@ import com.example.santa.domain.category.entity.Category;
 import com.example.santa.domain.category.repository.CategoryRepository;
 import com.example.santa.domain.challege.entity.Challenge;
 import com.example.santa.domain.challege.repository.ChallengeRepository;
+import com.example.santa.domain.mountain.dto.MountainDistanceDto;
 import com.example.santa.domain.mountain.entity.Mountain;
 import com.example.santa.domain.mountain.repository.MountainRepository;
+import com.example.santa.domain.mountain.service.MountainSpatialIndex;
+import com.example.santa.domain.outbox.service.OutboxEventService;
 import com.example.santa.domain.user.entity.User;
 import com.example.santa.domain.user.repository.UserRepository;
 import com.example.santa.domain.userchallenge.entity.UserChallenge;
 import com.example.santa.domain.userchallenge.repository.UserChallengeRepository;
-import com.example.santa.domain.userchallenge.service.UserChallengeService;
 import com.example.santa.domain.usermountain.dto.UserMountainResponseDto;
 import com.example.santa.domain.usermountain.dto.UserMountainVerifyRequestDto;
 import com.example.santa.domain.usermountain.entity.UserMountain;
@@ -33,41 +35,46 @@ public class UserMountainServiceImpl implements UserMountainService {
 
     private final UserMountainRepository userMountainRepository;
     private final MountainRepository mountainRepository;
+    private final MountainSpatialIndex mountainSpatialIndex;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
     private final UserMountainResponseDtoMapper userMountainResponseDtoMapper;
-    private final UserChallengeService userChallengeService;
+    private final OutboxEventService outboxEventService;
 
     @Autowired
     public UserMountainServiceImpl(UserMountainRepository userMountainRepository
             , MountainRepository mountainRepository
+            , MountainSpatialIndex mountainSpatialIndex
             , UserRepository userRepository
             ,CategoryRepository categoryRepository
-            ,UserChallengeService userChallengeService
+            ,OutboxEventService outboxEventService
             ,UserMountainResponseDtoMapper userMountainResponseDtoMapper) {
         this.userMountainRepository = userMountainRepository;
         this.mountainRepository = mountainRepository;
+        this.mountainSpatialIndex = mountainSpatialIndex;
         this.userRepository = userRepository;
         this.categoryRepository = categoryRepository;
-        this.userChallengeService =userChallengeService;
+        this.outboxEventService = outboxEventService;
         this.userMountainResponseDtoMapper = userMountainResponseDtoMapper;
     }
 
     @Transactional
     @Override
-    public UserMountainResponseDto verifyAndCreateUserMountain(UserMountainVerifyRequestDto userMountainVerifyRequestDto,String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ServiceLogicException(ExceptionCode.USER_NOT_FOUND));
+    public UserMountainResponseDto verifyAndCreateUserMountain(UserMountainVerifyRequestDto userMountainVerifyRequestDto, Long userId) {
+        // 토큰의 id 로 참조만 만듦 (유저 조회 없음)
+        User user = userRepository.getReferenceById(userId);
         Category category = categoryRepository.findByName("기타")
                 .orElseThrow(() -> new ServiceLogicException(ExceptionCode.OTHER_CATEGORY_CATEGORY_NOT_FOUND));
         double distance = 5;
-        Optional<Mountain> optionalMountain = mountainRepository.findMountainsWithinDistance(
+        // 반경 안에서 가장 가까운 산 (메모리 인덱스 조회, DB 거리 계산 없음)
+        Optional<MountainDistanceDto> nearestMountain = mountainSpatialIndex.findNearest(
                 userMountainVerifyRequestDto.getLatitude(),
                 userMountainVerifyRequestDto.getLongitude(),
                 distance);
 
-        if (optionalMountain.isPresent()) {
-            Mountain mountain = optionalMountain.get();
+        if (nearestMountain.isPresent()) {
+            Mountain mountain = mountainRepository.getReferenceById(nearestMountain.get().getId());
+            double height = nearestMountain.get().getHeight();
 
             // 여기서 검증 로직 추가
             Optional<UserMountain> existingRecord = userMountainRepository.findByUserAndMountainAndClimbDate(
@@ -85,12 +92,8 @@ public class UserMountainServiceImpl implements UserMountainService {
                     .category(category) //기타 카테고리 고정
                     .build());
 
-            double newAccumulatedHeight = user.getAccumulatedHeight() + mountain.getHeight();
-            user.setAccumulatedHeight(newAccumulatedHeight);
-            userRepository.save(user);
-
-            // UserChallenge 생성 후 호출
-            userChallengeService.updateProgress(user.getEmail(), save.getId());
+            // 누적 높이, 챌린지 진행도, 랭킹은 OutboxEventConsumer 가 비동기로 반영
+            outboxEventService.publishClimbVerified(userId, category.getId(), save.getClimbDate(), height);
 
             return userMountainResponseDtoMapper.toDto(save);
         } else {
@@ -132,7 +135,7 @@ public class UserMountainServiceImpl implements UserMountainService {
 //                    .category(category) //기타 카테고리 고정
 //                    .build());
 //
-//            double newAccumulatedHeight = user.getAccumulatedHeight() + mountain.getHeight();
+//            double newAccumulatedHeight = user.getAccumulatedHeight() + height;
 //            user.setAccumulatedHeight(newAccumulatedHeight);
 //            userRepository.save(user);
 //
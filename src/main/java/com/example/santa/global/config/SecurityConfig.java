@@ -1,6 +1,7 @@
 package com.example.santa.global.config;
 
 import com.example.santa.domain.user.oauth.CustomOAuth2LoginSuccessHandler;
+import com.example.santa.global.security.UserPrincipal;
 import com.example.santa.global.security.jwt.JwtAuthenticationFilter;
 import com.example.santa.global.security.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
@@ -67,6 +68,8 @@ public class SecurityConfig {
                 .requestCache(RequestCacheConfigurer::disable)
                 // stateless
                 .sessionManagement(AbstractHttpConfigurer::disable)
+                // 로그인하지 않은 요청도 @AuthenticationPrincipal 이 UserPrincipal 타입이 되도록
+                .anonymous(anonymous -> anonymous.principal(UserPrincipal.ANONYMOUS))
                 .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class);
 
         return httpSecurity.build();
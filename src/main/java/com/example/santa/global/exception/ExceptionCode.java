@@ -16,21 +16,32 @@ public enum ExceptionCode {
     MEETING_NOT_FOUND(HttpStatus.NOT_FOUND, "모임을 찾을 수 없습니다."),
     ALREADY_PARTICIPATING(HttpStatus.CONFLICT, "이미 참여중인 모임입니다" ),
     ALREADY_PARTICIPATING_ON_DATE(HttpStatus.CONFLICT, "참여중인 날짜입니다." ),
+    MEETING_FULL(HttpStatus.CONFLICT, "모집 인원이 가득 찼습니다." ),
+    HEADCOUNT_BELOW_PARTICIPANTS(HttpStatus.CONFLICT, "모집 인원은 현재 참가자 수보다 적을 수 없습니다." ),
     USER_NOT_LEADER(HttpStatus.NOT_FOUND, "모임장과 관리자만 삭제할 수 있습니다."),
+    PARTICIPANT_NOT_FOUND(HttpStatus.NOT_FOUND, "참여중인 모임이 아닙니다."),
+    TAG_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 태그입니다."),
+    LEADER_CANNOT_LEAVE(HttpStatus.CONFLICT, "모임장은 모임에서 나갈 수 없습니다."),
     MOUNTAIN_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 산 입니다."),
+    MOUNTAIN_IMPORT_IN_PROGRESS(HttpStatus.CONFLICT, "산 데이터 등록이 이미 진행중입니다."),
+    IO_EXCEPTION_ON_MOUNTAIN_IMPORT(HttpStatus.BAD_REQUEST, "산 데이터 파일을 읽을 수 없습니다."),
     USERMOUNTAIN_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 유저 등산 정보입니다."),
     ALREADY_USERMOUNTAIN_ON_DATE(HttpStatus.CONFLICT, "이미 같은 날에 이 산에 대한 인증이 존재합니다."),
     INVALID_USER_LOCATION(HttpStatus.NOT_FOUND, "인증된 위치에 산을 찾을 수 없습니다."),
     INVALID_JWT_TOKEN(HttpStatus.valueOf(403), "알수없는 형식에 JWT token 입니다."),
     EXPIRED_JWT_TOKEN(HttpStatus.valueOf(401), "JWT 토큰의 유효기간이 만료되었습니다"),
     UNSUPPORTED_JWT_TOKEN(HttpStatus.valueOf(403), "JWT 가 서버에서 지원하지않는 유형입니다."),
+    REVOKED_JWT_TOKEN(HttpStatus.valueOf(401), "폐기된 토큰입니다. 다시 로그인해주세요."),
     EMPTY_FILE(HttpStatus.NOT_FOUND, "이미지 파일이 존재하지 않습니다."),
     IO_EXCEPTION_ON_IMAGE_UPLOAD(HttpStatus.CONFLICT, "이미지 업로드에 문제가 발생했습니다."),
     NO_FILE_EXTENTION(HttpStatus.NOT_FOUND, "파일 확장자가 존재하지 않습니다." ),
     INVALID_FILE_EXTENTION(HttpStatus.CONFLICT, "업로드 할 수 없는 확장자입니다." ),
     PUT_OBJECT_EXCEPTION(HttpStatus.CONFLICT, "S3에 이미지를 업로드 할 수 없습니다." ),
     IO_EXCEPTION_ON_IMAGE_DELETE(HttpStatus.CONFLICT, "이미지를 삭제 할 수 없습니다." ),
-    REPORT_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 신고한 사람입니다." );
+    REPORT_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 신고한 사람입니다." ),
+    RANKING_NOT_FOUND(HttpStatus.NOT_FOUND, "랭킹 정보가 존재하지 않습니다." ),
+    INVALID_RANKING_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 랭킹 커서입니다." ),
+    PASSWORD_HASHER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요." );
 
     private final HttpStatus status;
     private final String message;
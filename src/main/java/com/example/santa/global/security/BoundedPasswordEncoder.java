@@ -0,0 +1,126 @@
+package com.example.santa.global.security;
+
+import com.example.santa.global.exception.ExceptionCode;
+import com.example.santa.global.exception.ServiceLogicException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * 비밀번호 해시/비교 전용 스레드 풀 (bcrypt 는 CPU 를 많이 씀)
+ * 요청 스레드에서 바로 계산하면 로그인이 몰릴 때 Tomcat 스레드가 모두 bcrypt 에 묶여 가벼운 조회 API 까지 느려진다.
+ * 정해진 수의 스레드와 큐에서만 계산하고, 큐가 차거나 timeout 안에 끝나지 않으면 바로 503 (PASSWORD_HASHER_BUSY) 을 반환한다.
+ *
+ * PasswordEncoder 빈으로 등록되므로 로그인(DaoAuthenticationProvider)의 비밀번호 비교도 이 풀에서 실행된다.
+ * 메트릭 : password.hash.duration{op}, password.hash.queue.wait, password.hash.rejected, password.hash.queue.size
+ */
+@Slf4j
+@Component
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    @Autowired
+    public BoundedPasswordEncoder(MeterRegistry meterRegistry
+            , @Value("${password.hasher.threads:0}") int threads
+            , @Value("${password.hasher.queue-capacity:64}") int queueCapacity
+            , @Value("${password.hasher.timeout-ms:3000}") long timeoutMs) {
+        // 기존 비밀번호({bcrypt}...)와 호환되도록 Password 에서 쓰던 것과 같은 DelegatingPasswordEncoder 사용
+        this(PasswordEncoderFactories.createDelegatingPasswordEncoder(), meterRegistry
+                , threads > 0 ? threads : Runtime.getRuntime().availableProcessors(), queueCapacity, timeoutMs);
+    }
+
+    BoundedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry, int threads, int queueCapacity, long timeoutMs) {
+        this.delegate = delegate;
+        this.timeoutMs = timeoutMs;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = meterRegistry.timer("password.hash.duration", "op", "encode");
+        this.matchesTimer = meterRegistry.timer("password.hash.duration", "op", "matches");
+        this.queueWaitTimer = meterRegistry.timer("password.hash.queue.wait");
+        this.rejectedCounter = meterRegistry.counter("password.hash.rejected");
+        Gauge.builder("password.hash.queue.size", executor, e -> e.getQueue().size())
+                .description("대기 중인 해시 작업 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // 해시를 다시 계산하지 않으므로 풀을 거치지 않음
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(Timer timer, Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceLogicException(ExceptionCode.PASSWORD_HASHER_BUSY);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 큐에서 아직 기다리는 중이면 실행되지 않도록 취소
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new ServiceLogicException(ExceptionCode.PASSWORD_HASHER_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceLogicException(ExceptionCode.PASSWORD_HASHER_BUSY);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
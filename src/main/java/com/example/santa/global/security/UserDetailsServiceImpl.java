@@ -20,6 +20,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         log.info("login - loadUserByUsername : {}", username);
 
+        // 비밀번호 해시가 필요하므로 UserCacheService 를 거치지 않고 DB 에서 조회
         User user = userRepository.findByEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException("존재하지 않는 사용자 입니다."));
 //        UserDetails userDetails = org.springframework.security.core.userdetails.User.builder()
@@ -0,0 +1,49 @@
+package com.example.santa.global.security;
+
+import com.example.santa.domain.user.entity.Role;
+import com.example.santa.global.exception.ExceptionCode;
+import com.example.santa.global.exception.ServiceLogicException;
+import lombok.Getter;
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/*
+ * JWT 에서 꺼낸 로그인 유저 정보 (@AuthenticationPrincipal UserPrincipal 로 받음)
+ * id 가 있으므로 서비스에서 findByEmail 로 User 를 다시 읽지 않고 getReferenceById 로 참조만 만들 수 있다.
+ * nickname 은 토큰 발급 시점 값이므로 화면 표시용으로만 사용
+ */
+@Getter
+public class UserPrincipal implements AuthenticatedPrincipal {
+
+    // 로그인하지 않은 요청의 principal (SecurityConfig 에서 등록)
+    public static final UserPrincipal ANONYMOUS = new UserPrincipal(null, "anonymousUser", null, null);
+
+    private final Long id;
+    private final String email;
+    private final Role role;
+    private final String nickname;
+
+    public UserPrincipal(Long id, String email, Role role, String nickname) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.nickname = nickname;
+    }
+
+    // 로그인하지 않은 요청이면 기존처럼 USER_NOT_FOUND
+    public Long getId() {
+        if (id == null) {
+            throw new ServiceLogicException(ExceptionCode.USER_NOT_FOUND);
+        }
+        return id;
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    @Override
+    public String toString() {
+        return email;
+    }
+}
@@ -22,7 +22,7 @@ public class JwtAuthenticationFilter extends GenericFilter {
 
     /*
     * resolveToken() 사용하여 요청 헤더에서 JWT 토큰을 추출
-    * validateToken() 메서드로 JWT 토큰의 유효성 검증
+    * resolveAuthentication() 메서드로 JWT 토큰 검증 + Authentication 생성 (한 번 검증한 토큰은 캐시에서 꺼냄)
     * */
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain filterChain) throws IOException, ServletException {
@@ -30,8 +30,8 @@ public class JwtAuthenticationFilter extends GenericFilter {
 
         // 검증하고 유효하다면 SecurityContext 에 저장
         if (token != null) {
-            if (jwtTokenProvider.validateToken(token)) {
-                Authentication authentication = jwtTokenProvider.getAuthentication(token);
+            Authentication authentication = jwtTokenProvider.resolveAuthentication(token);
+            if (authentication != null) {
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
             else {
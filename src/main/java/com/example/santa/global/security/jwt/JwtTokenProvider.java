@@ -1,6 +1,12 @@
 package com.example.santa.global.security.jwt;
 
+import com.example.santa.domain.user.dto.UserSnapshot;
+import com.example.santa.domain.user.entity.Role;
 import com.example.santa.domain.user.entity.User;
+import com.example.santa.global.security.UserPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.example.santa.global.exception.ExceptionCode;
 import com.example.santa.global.exception.ServiceLogicException;
 import io.jsonwebtoken.*;
@@ -16,9 +22,12 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -28,54 +37,112 @@ public class JwtTokenProvider {
     * Security 와 JWT 사용하여 인증과 권한을 부여하는 클래스
     * 토근 생성, 복호화, 검증 기능 구현
     * */
+    public static final long ACCESS_TOKEN_VALIDITY_MS = 1_800_000L;
+    public static final long REFRESH_TOKEN_VALIDITY_MS = 86_400_000L;
+    private static final int AUTHENTICATION_CACHE_SIZE = 10_000;
+
     private final Key key;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationService tokenRevocationService;
+    // 파서는 thread-safe 하므로 한 번만 만들어서 재사용
+    private final JwtParser jwtParser;
+    /*
+    * 검증이 끝난 access 토큰 -> Authentication 캐시
+    * 같은 토큰으로 다시 요청하면 파싱과 서명 검증을 건너뛴다.
+    * 항목은 토큰 만료 시각에 같이 만료되므로 만료된 토큰이 캐시로 통과되지 않는다.
+    * 키는 토큰 문자열 그대로 사용 (SHA-256 등으로 다시 해시하면 건너뛰려는 HMAC 계산과 비용이 비슷함)
+    * 폐기 여부는 캐시와 상관없이 매번 TokenRevocationService 로 확인한다.
+    * */
+    private final Cache<String, CachedAuthentication> authenticationCache = Caffeine.newBuilder()
+            .maximumSize(AUTHENTICATION_CACHE_SIZE)
+            .expireAfter(new Expiry<String, CachedAuthentication>() {
+                @Override
+                public long expireAfterCreate(String token, CachedAuthentication cached, long currentTime) {
+                    return TimeUnit.MILLISECONDS.toNanos(Math.max(cached.expiresAt - System.currentTimeMillis(), 0));
+                }
+
+                @Override
+                public long expireAfterUpdate(String token, CachedAuthentication cached, long currentTime, long currentDuration) {
+                    return expireAfterCreate(token, cached, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String token, CachedAuthentication cached, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
 
     // secret 값 가져와서 key 에 저장
-    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey) {
+    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey
+            , RefreshTokenStore refreshTokenStore
+            , TokenRevocationService tokenRevocationService) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.refreshTokenStore = refreshTokenStore;
+        this.tokenRevocationService = tokenRevocationService;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     /*
-    * Authentication(인증) 객체를 기반으로 AccessToken, RefreshToken 생성
-    * AccessToken: 인증된 사용자의 권한 정보와 만료시간을 담고있음
-    * RefreshToken: AccessToken 의 갱신을 위해 사용 됨
+    * User 를 기반으로 AccessToken, RefreshToken 생성
+    * AccessToken: 인증된 사용자의 id, 권한 정보와 만료시간을 담고있음 (요청마다 유저를 다시 조회하지 않도록)
+    * RefreshToken: AccessToken 의 갱신을 위해 사용 됨, 로그인마다 새 패밀리(fam)를 만들고 jti 를 Redis 에 저장
+    * 두 토큰 모두 발급 당시 유저 세대(gen)와 패밀리를 담고 있어서 폐기 여부를 확인할 수 있음
     * */
-    public JwtToken generateToken(Authentication authentication) {
-        // 권한 가져오기
-        String authorities = authentication.getAuthorities()
-                .stream().map(GrantedAuthority::getAuthority).collect(Collectors.joining(","));
-        String username = authentication.getName();
-        log.info("authorities {}", authorities);
-        return getJwtToken(username, authorities);
-    }
     public JwtToken generateToken(User user) {
-        String username = user.getEmail();
         String authorities = user.getAuthorities().stream().map(GrantedAuthority::getAuthority).collect(Collectors.joining(","));
-        return getJwtToken(username, authorities);
+        return createSession(user.getEmail(), user.getId(), user.getRole(), user.getNickname(), authorities);
 
     }
 
+    // 로그인 시 캐시된 유저 값으로 생성 (UserCacheService)
+    public JwtToken generateToken(UserSnapshot user) {
+        return createSession(user.getEmail(), user.getId(), user.getRole(), user.getNickname(), user.getRole().name());
+    }
 
-    private JwtToken getJwtToken(String username, String authorities) {
+    // 가입 전 소셜 로그인(GUEST) 유저는 아직 저장되지 않아서 id 가 null
+    private JwtToken createSession(String email, Long id, Role role, String nickname, String authorities) {
+        String familyId = UUID.randomUUID().toString();
+        String jti = UUID.randomUUID().toString();
+        long generation = refreshTokenStore.currentGeneration(id);
+        refreshTokenStore.createFamily(familyId, jti, Duration.ofMillis(REFRESH_TOKEN_VALIDITY_MS));
+        return buildTokens(email, id, role.name(), nickname, authorities, generation, familyId, jti);
+    }
+
+    private JwtToken buildTokens(String email, Long id, Object role, Object nickname, String authorities
+            , long generation, String familyId, String jti) {
         long now = (new Date()).getTime();
 
         // AccessToken 생성 //86400000
-        Date accessTokenExpiresIn = new Date(now + 1800000);
+        Date accessTokenExpiresIn = new Date(now + ACCESS_TOKEN_VALIDITY_MS);
         String accessToken = Jwts.builder()
-                .setSubject(username)
+                .setSubject(email)
+                .claim("id", id)
+                .claim("role", role)
+                .claim("nickname", nickname)
                 .claim("auth", authorities)
                 .claim("type", "access")
+                .claim("gen", generation)
+                .claim("fam", familyId)
                 .setExpiration(accessTokenExpiresIn)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
 
         // RefreshToken 생성
         String refreshToken = Jwts.builder()
-                .setSubject(username)
+                .setSubject(email)
+                .setId(jti)
+                .claim("id", id)
+                .claim("role", role)
+                .claim("nickname", nickname)
                 .claim("auth", authorities)
                 .claim("type", "refresh")
-                .setExpiration(new Date(now + 86400000))
+                .claim("gen", generation)
+                .claim("fam", familyId)
+                .setExpiration(new Date(now + REFRESH_TOKEN_VALIDITY_MS))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
 
@@ -87,26 +154,48 @@ public class JwtTokenProvider {
                 .build();
     }
 
-    public String generateAccessTokenFromRefreshToken(String refreshToken) {
-        if (validateToken(refreshToken)) {
+    /*
+    * refresh 토큰으로 access, refresh 토큰 재발급 (rotation)
+    * 사용한 refresh 토큰은 바로 무효가 되고, 이미 사용한 토큰이 다시 들어오면 탈취로 보고 패밀리 전체를 폐기한다.
+    * 만료, 폐기, 재사용된 토큰은 다시 로그인해야 함
+    * */
+    public JwtToken rotateRefreshToken(String refreshToken) {
+        Claims claims;
+        try {
+            claims = jwtParser.parseClaimsJws(refreshToken).getBody();
+        } catch (ExpiredJwtException e) {
+            throw new ServiceLogicException(ExceptionCode.EXPIRED_JWT_TOKEN);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new ServiceLogicException(ExceptionCode.INVALID_JWT_TOKEN);
+        }
+        if (!"refresh".equals(claims.get("type"))) {
             throw new IllegalArgumentException("refreshToken 으로만 접근할 수 있습니다.");
         }
-        // RefreshToken 으로부터 권한 정보 추출
-        // 토큰 복호화
-        Claims claims = parseClaims(refreshToken);
-        String username = claims.getSubject();
-        String authorities = claims.get("auth").toString();
+        String familyId = claims.get("fam", String.class);
+        String jti = claims.getId();
+        if (familyId == null || jti == null) {
+            // 패밀리가 없는 이전 형식의 refresh 토큰
+            throw new ServiceLogicException(ExceptionCode.REVOKED_JWT_TOKEN);
+        }
 
-        long now = (new Date()).getTime();
+        Long id = claims.get("id", Long.class);
+        long generation = generationOf(claims);
+        if (generation < refreshTokenStore.currentGeneration(id)) {
+            tokenRevocationService.revokeFamily(familyId);
+            throw new ServiceLogicException(ExceptionCode.REVOKED_JWT_TOKEN);
+        }
 
-        Date accessTokenExpiresIn = new Date(now + 1800000);
-        String newAccessToken = Jwts.builder()
-                .setSubject(username)
-                .claim("auth", authorities)
-                .setExpiration(accessTokenExpiresIn)
-                .signWith(key, SignatureAlgorithm.HS256)
-                .compact();
-        return newAccessToken;
+        String newJti = UUID.randomUUID().toString();
+        RefreshTokenStore.RotationResult result = refreshTokenStore.rotate(familyId, jti, newJti, Duration.ofMillis(REFRESH_TOKEN_VALIDITY_MS));
+        if (result == RefreshTokenStore.RotationResult.REUSED) {
+            log.warn("refresh token reuse detected : user {}, family {}", id, familyId);
+            tokenRevocationService.revokeFamily(familyId);
+        }
+        if (result != RefreshTokenStore.RotationResult.ROTATED) {
+            throw new ServiceLogicException(ExceptionCode.REVOKED_JWT_TOKEN);
+        }
+        return buildTokens(claims.getSubject(), id, claims.get("role"), claims.get("nickname")
+                , claims.get("auth").toString(), generation, familyId, newJti);
     }
 
     // Jwt 토큰을 복호화하여 토큰에 들어있는 정보를 꺼내는 메소드
@@ -118,6 +207,49 @@ public class JwtTokenProvider {
             throw new RuntimeException("권한 정보가 없는 토큰입니다");
         }
 
+        return toAuthentication(claims);
+    }
+
+    /*
+    * 필터에서 사용 : 유효한 access 토큰이면 Authentication, 아니면 null
+    * validateToken() + getAuthentication() 을 한 번의 파싱으로 처리하고 결과를 캐시
+    * 폐기된 토큰(로그아웃, 비밀번호 변경 등)이면 null
+    * */
+    public Authentication resolveAuthentication(String token) {
+        CachedAuthentication cached = authenticationCache.getIfPresent(token);
+        if (cached != null) {
+            if (tokenRevocationService.isRevoked(cached.userId, cached.generation, cached.familyId)) {
+                authenticationCache.invalidate(token);
+                return null;
+            }
+            return cached.authentication;
+        }
+
+        Claims claims;
+        try {
+            claims = jwtParser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.info("invalid JWT Token : {}", e.getMessage());
+            return null;
+        }
+        if (!"access".equals(claims.get("type")) || claims.get("auth") == null || claims.getExpiration() == null) {
+            return null;
+        }
+
+        Long userId = claims.get("id", Long.class);
+        long generation = generationOf(claims);
+        String familyId = claims.get("fam", String.class);
+        if (tokenRevocationService.isRevoked(userId, generation, familyId)) {
+            return null;
+        }
+
+        Authentication authentication = toAuthentication(claims);
+        authenticationCache.put(token, new CachedAuthentication(authentication, claims.getExpiration().getTime()
+                , userId, generation, familyId));
+        return authentication;
+    }
+
+    private Authentication toAuthentication(Claims claims) {
         // claims 에서 권한정보 가져오기
         Collection<? extends GrantedAuthority> authorities = Arrays.stream(claims.get("auth").toString().split(","))
                 .map(SimpleGrantedAuthority::new)
@@ -129,18 +261,21 @@ public class JwtTokenProvider {
 
         // UserDetails 객체를 만들어서 Authentication return
 //        UserDetails principal = new User(claims.getSubject(), "", authorities);
-        return new UsernamePasswordAuthenticationToken(claims.getSubject(), "", authorities);
+        // 가입 전 소셜 로그인(GUEST) 토큰에는 id 가 없음 -> id 가 필요한 요청은 USER_NOT_FOUND
+        Object role = claims.get("role");
+        UserPrincipal principal = new UserPrincipal(
+                claims.get("id", Long.class),
+                claims.getSubject(),
+                role == null ? null : Role.valueOf(role.toString()),
+                claims.get("nickname", String.class));
+        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
     }
 
     // 토큰정보 검증 메소드
     public Boolean validateToken(String token) {
         try {
-            Jws<Claims> claimsJws = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            String type = claimsJws.getBody().get("type").toString();
-            return type.equals("access");
+            Jws<Claims> claimsJws = jwtParser.parseClaimsJws(token);
+            return "access".equals(claimsJws.getBody().get("type"));
         } catch (SecurityException | MalformedJwtException e) {
             log.info("invalid JWT Token", e);
 //            throw new ServiceLogicException(ExceptionCode.INVALID_JWT_TOKEN);
@@ -155,6 +290,12 @@ public class JwtTokenProvider {
         return false;
     }
 
+    // 세대가 없는 이전 형식 토큰은 0 세대
+    private static long generationOf(Claims claims) {
+        Number generation = claims.get("gen", Number.class);
+        return generation == null ? 0 : generation.longValue();
+    }
+
     /*
     * Claims: 토큰에서 사용할 정보의 조각
     * accessToken 을 복호화 만약 만료된 토큰이면 Claims 반환
@@ -162,15 +303,25 @@ public class JwtTokenProvider {
     * */
     private Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(accessToken)
-                    .getBody();
+            return jwtParser.parseClaimsJws(accessToken).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
     }
 
+    private static final class CachedAuthentication {
+        private final Authentication authentication;
+        private final long expiresAt;
+        private final Long userId;
+        private final long generation;
+        private final String familyId;
 
+        private CachedAuthentication(Authentication authentication, long expiresAt, Long userId, long generation, String familyId) {
+            this.authentication = authentication;
+            this.expiresAt = expiresAt;
+            this.userId = userId;
+            this.generation = generation;
+            this.familyId = familyId;
+        }
+    }
 }
@@ -0,0 +1,78 @@
+package com.example.santa.global.security.jwt;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/*
+ * refresh 토큰 상태 저장소 (Redis)
+ * - 토큰 패밀리 : 로그인 한 번에 패밀리 하나. auth:family:{familyId} = 현재 유효한 refresh 토큰의 jti
+ *   재발급할 때마다 jti 를 새 값으로 바꾸고(rotation), 이전 jti 가 다시 들어오면 탈취로 보고 패밀리를 지운다.
+ * - 유저 세대 : auth:generation:{userId}. 토큰에 발급 당시 세대를 넣어 두고 INCR 한 번으로 유저의 모든 토큰을 폐기한다.
+ */
+@Component
+public class RefreshTokenStore {
+
+    private static final String FAMILY_KEY_PREFIX = "auth:family:";
+    private static final String GENERATION_KEY_PREFIX = "auth:generation:";
+
+    // KEYS[1]: 패밀리, ARGV: 받은 jti, 새 jti, ttl(ms) / 1: 교체, 0: 없음(만료, 폐기), -1: 재사용 감지(패밀리 삭제)
+    private static final DefaultRedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[1]) " +
+            "if not current then return 0 end " +
+            "if current == ARGV[1] then " +
+            "  redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+            "  return 1 " +
+            "end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return -1", Long.class);
+
+    public enum RotationResult {
+        ROTATED, NOT_FOUND, REUSED
+    }
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public RefreshTokenStore(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    // 가입 전 소셜 로그인(GUEST) 유저는 id 가 없으므로 항상 0
+    public long currentGeneration(Long userId) {
+        if (userId == null) {
+            return 0;
+        }
+        String generation = stringRedisTemplate.opsForValue().get(GENERATION_KEY_PREFIX + userId);
+        return generation == null ? 0 : Long.parseLong(generation);
+    }
+
+    public void createFamily(String familyId, String jti, Duration ttl) {
+        stringRedisTemplate.opsForValue().set(FAMILY_KEY_PREFIX + familyId, jti, ttl);
+    }
+
+    public RotationResult rotate(String familyId, String presentedJti, String newJti, Duration ttl) {
+        Long result = stringRedisTemplate.execute(ROTATE_SCRIPT, List.of(FAMILY_KEY_PREFIX + familyId),
+                presentedJti, newJti, String.valueOf(ttl.toMillis()));
+        if (result == null || result == 0) {
+            return RotationResult.NOT_FOUND;
+        }
+        return result == 1 ? RotationResult.ROTATED : RotationResult.REUSED;
+    }
+
+    public boolean familyExists(String familyId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(FAMILY_KEY_PREFIX + familyId));
+    }
+
+    public void deleteFamily(String familyId) {
+        stringRedisTemplate.delete(FAMILY_KEY_PREFIX + familyId);
+    }
+
+    // 새 세대 반환, 이전 세대로 발급된 토큰은 모두 무효
+    public long increaseGeneration(Long userId) {
+        Long generation = stringRedisTemplate.opsForValue().increment(GENERATION_KEY_PREFIX + userId);
+        return generation == null ? 0 : generation;
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.santa.global.security.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/*
+ * 토큰 폐기
+ * refresh 토큰은 RefreshTokenStore(Redis) 에서 바로 막히고, 이미 발급된 access 토큰은 만료될 때까지(최대 30분)
+ * 로컬 블룸 필터로 막는다. 요청마다 Redis 를 조회하지 않고, 필터가 true 일 때만 Redis 로 확인한다.
+ *
+ * - 필터 항목 : f:{familyId} (로그아웃, 재사용 감지), u:{userId}:{세대} (유저 전체 폐기)
+ * - 다른 서버에는 pub/sub 으로 알리고, 새로 뜬 서버는 auth:revoked (score = 만료 시각) 에서 읽어서 채운다.
+ * - access 토큰 유효시간마다 필터를 새로 만들고 이전 필터 하나만 남긴다.
+ *   항목은 최소 유효시간 동안 남아 있고, 그 뒤에는 폐기 전에 발급된 access 토큰이 모두 만료된다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationService implements MessageListener {
+
+    private static final String CHANNEL = "auth:revoked";
+    private static final String REVOKED_KEY = "auth:revoked";
+    private static final int EXPECTED_REVOCATIONS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RefreshTokenStore refreshTokenStore;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private volatile RevocationBloomFilter current = newFilter();
+    private volatile RevocationBloomFilter previous = newFilter();
+
+    public TokenRevocationService(RefreshTokenStore refreshTokenStore
+            , StringRedisTemplate stringRedisTemplate
+            , RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.refreshTokenStore = refreshTokenStore;
+        this.stringRedisTemplate = stringRedisTemplate;
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 로그아웃, refresh 토큰 재사용 감지
+    public void revokeFamily(String familyId) {
+        refreshTokenStore.deleteFamily(familyId);
+        publish("f:" + familyId);
+    }
+
+    // 비밀번호 변경 등 : 유저의 모든 토큰 폐기 (INCR 한 번)
+    public void revokeAll(Long userId) {
+        long generation = refreshTokenStore.increaseGeneration(userId);
+        publish("u:" + userId + ":" + (generation - 1));
+    }
+
+    /*
+    * access 토큰 검사 (요청마다 호출)
+    * 필터에 없으면 Redis 조회 없이 false, 있으면 패밀리와 세대를 Redis 에서 확인
+    * fam/gen 이 없는 이전 형식 토큰은 유저 id 로만 확인
+    * */
+    public boolean isRevoked(Long userId, long generation, String familyId) {
+        boolean familyMarked = familyId != null && mightContain("f:" + familyId);
+        boolean userMarked = userId != null && mightContain("u:" + userId + ":" + generation);
+        if (!familyMarked && !userMarked) {
+            return false;
+        }
+        return (familyMarked && !refreshTokenStore.familyExists(familyId))
+                || (userMarked && generation < refreshTokenStore.currentGeneration(userId));
+    }
+
+    // 다른 서버(또는 나)의 폐기 알림
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        current.put(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long now = System.currentTimeMillis();
+        stringRedisTemplate.opsForZSet().removeRangeByScore(REVOKED_KEY, 0, now);
+        Set<String> entries = stringRedisTemplate.opsForZSet().rangeByScore(REVOKED_KEY, now, Double.MAX_VALUE);
+        if (entries != null) {
+            entries.forEach(current::put);
+            log.info("token revocation filter loaded : {} entries", entries.size());
+        }
+    }
+
+    @Scheduled(fixedRate = JwtTokenProvider.ACCESS_TOKEN_VALIDITY_MS, initialDelay = JwtTokenProvider.ACCESS_TOKEN_VALIDITY_MS)
+    public void rotate() {
+        previous = current;
+        current = newFilter();
+        stringRedisTemplate.opsForZSet().removeRangeByScore(REVOKED_KEY, 0, System.currentTimeMillis());
+    }
+
+    private void publish(String entry) {
+        current.put(entry);
+        stringRedisTemplate.opsForZSet().add(REVOKED_KEY, entry, System.currentTimeMillis() + JwtTokenProvider.ACCESS_TOKEN_VALIDITY_MS);
+        stringRedisTemplate.convertAndSend(CHANNEL, entry);
+    }
+
+    private boolean mightContain(String entry) {
+        return current.mightContain(entry) || previous.mightContain(entry);
+    }
+
+    private static RevocationBloomFilter newFilter() {
+        return new RevocationBloomFilter(EXPECTED_REVOCATIONS, FALSE_POSITIVE_RATE);
+    }
+}
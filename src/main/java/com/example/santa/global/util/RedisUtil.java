@@ -3,13 +3,19 @@ package com.example.santa.global.util;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class RedisUtil {
+    // 내가 잡은 락(값이 같을 때)만 삭제
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0", Long.class);
+
     private final StringRedisTemplate stringRedisTemplate;
 
     // key 입력 시, value 리턴 / value 입력 시, key 리턴
@@ -30,4 +36,14 @@ public class RedisUtil {
         stringRedisTemplate.delete(key);
     }
 
+    // 분산 락 획득 (SET key token NX EX duration), 이미 다른 서버가 잡고 있으면 false
+    public boolean tryLock(String key, String token, Long duration) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(key, token, Duration.ofSeconds(duration)));
+    }
+
+    // 분산 락 해제, 만료 후 다른 서버가 잡은 락은 지우지 않음
+    public void unlock(String key, String token) {
+        stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(key), token);
+    }
+
 }
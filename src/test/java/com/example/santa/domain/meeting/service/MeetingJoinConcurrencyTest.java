@@ -0,0 +1,198 @@
+package com.example.santa.domain.meeting.service;
+
+import com.example.santa.domain.category.entity.Category;
+import com.example.santa.domain.category.repository.CategoryRepository;
+import com.example.santa.domain.meeting.entity.Meeting;
+import com.example.santa.domain.meeting.entity.Participant;
+import com.example.santa.domain.meeting.repository.MeetingRepository;
+import com.example.santa.domain.meeting.repository.ParticipantRepository;
+import com.example.santa.domain.outbox.service.OutboxEventService;
+import com.example.santa.domain.user.entity.User;
+import com.example.santa.domain.user.repository.UserRepository;
+import com.example.santa.global.exception.ExceptionCode;
+import com.example.santa.global.exception.ServiceLogicException;
+import com.example.santa.global.util.S3ImageService;
+import com.example.santa.global.util.mapsturct.ParticipantsDtoMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/*
+ * 여러 스레드가 동시에 같은 모임에 참여할 때 모집 인원/중복 참여가 지켜지는지 확인 (모임 종료 중복 호출 포함)
+ * 각 참여가 실제로 커밋되어야 하므로 테스트 트랜잭션은 사용하지 않음
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:santa-join;MODE=MySQL;LOCK_TIMEOUT=10000;NON_KEYWORDS=USER,VALUE,END,KEY,YEAR,MONTH,DAY",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(MeetingServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MeetingJoinConcurrencyTest {
+
+    private static final int THREADS = 20;
+
+    @Autowired
+    private MeetingService meetingService;
+    @Autowired
+    private MeetingRepository meetingRepository;
+    @Autowired
+    private ParticipantRepository participantRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @MockBean
+    private ParticipantsDtoMapper participantsDtoMapper;
+    @MockBean
+    private S3ImageService s3ImageService;
+    @MockBean
+    private TagService tagService;
+    @MockBean
+    private OutboxEventService outboxEventService;
+
+    @AfterEach
+    void tearDown() {
+        participantRepository.deleteAll();
+        meetingRepository.deleteAll();
+        userRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    void joinMeeting_동시참여시_모집인원_초과없음() throws Exception {
+        Meeting meeting = createMeeting(5);
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            userIds.add(createUser("member" + i).getId());
+        }
+
+        Map<ExceptionCode, Integer> failures = joinConcurrently(meeting.getId(), userIds);
+
+        Meeting saved = meetingRepository.findById(meeting.getId()).orElseThrow();
+        assertEquals(5, saved.getParticipantCount());
+        assertEquals(5, participantRepository.count());
+        assertEquals(THREADS - 4, failures.getOrDefault(ExceptionCode.MEETING_FULL, 0));
+    }
+
+    @Test
+    void joinMeeting_같은유저_동시참여시_한번만_참여() throws Exception {
+        Meeting meeting = createMeeting(THREADS + 1);
+        Long userId = createUser("member").getId();
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            userIds.add(userId);
+        }
+
+        Map<ExceptionCode, Integer> failures = joinConcurrently(meeting.getId(), userIds);
+
+        Meeting saved = meetingRepository.findById(meeting.getId()).orElseThrow();
+        assertEquals(2, saved.getParticipantCount());
+        assertEquals(2, participantRepository.count());
+        assertEquals(Map.of(ExceptionCode.ALREADY_PARTICIPATING, THREADS - 1), failures);
+    }
+
+    @Test
+    void joinMeeting_이미참여한_모임이면_ALREADY_PARTICIPATING() {
+        Meeting meeting = createMeeting(5);
+        Long userId = createUser("member").getId();
+        meetingService.joinMeeting(meeting.getId(), userId);
+
+        ServiceLogicException e = assertThrows(ServiceLogicException.class, () -> meetingService.joinMeeting(meeting.getId(), userId));
+
+        assertEquals(ExceptionCode.ALREADY_PARTICIPATING, e.getExceptionCode());
+    }
+
+    @Test
+    void joinMeeting_없는유저면_USER_NOT_FOUND() {
+        Meeting meeting = createMeeting(5);
+
+        ServiceLogicException e = assertThrows(ServiceLogicException.class, () -> meetingService.joinMeeting(meeting.getId(), -1L));
+
+        assertEquals(ExceptionCode.USER_NOT_FOUND, e.getExceptionCode());
+        assertEquals(1, meetingRepository.findById(meeting.getId()).orElseThrow().getParticipantCount());
+    }
+
+    @Test
+    void endMeeting_여러번_종료해도_이벤트는_한번만_저장() {
+        Meeting meeting = createMeeting(5);
+        Long leaderId = meeting.getLeader().getId();
+
+        meetingService.endMeeting(leaderId, meeting.getId());
+        meetingService.endMeeting(leaderId, meeting.getId());
+
+        assertTrue(meetingRepository.findById(meeting.getId()).orElseThrow().isEnd());
+        verify(outboxEventService, times(1)).publishMeetingJoined(eq(meeting.getId()), anyList());
+    }
+
+    private Map<ExceptionCode, Integer> joinConcurrently(Long meetingId, List<Long> userIds) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ExceptionCode>> results = new ArrayList<>();
+        for (Long userId : userIds) {
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    meetingService.joinMeeting(meetingId, userId);
+                    return null;
+                } catch (ServiceLogicException e) {
+                    return e.getExceptionCode();
+                }
+            }));
+        }
+        start.countDown();
+
+        Map<ExceptionCode, Integer> failures = new ConcurrentHashMap<>();
+        for (Future<ExceptionCode> result : results) {
+            ExceptionCode code = result.get(30, TimeUnit.SECONDS);
+            if (code != null) {
+                failures.merge(code, 1, Integer::sum);
+            }
+        }
+        executor.shutdown();
+        return failures;
+    }
+
+    private Meeting createMeeting(int headcount) {
+        Category category = categoryRepository.save(new Category(null, "등산"));
+        User leader = createUser("leader");
+        Meeting meeting = meetingRepository.save(Meeting.builder()
+                .meetingName("모임")
+                .description("설명")
+                .headcount(headcount)
+                .date(LocalDate.now().plusDays(1))
+                .category(category)
+                .leader(leader)
+                .participantCount(1)
+                .build());
+        participantRepository.save(Participant.builder().meeting(meeting).user(leader).isLeader(true).build());
+        return meeting;
+    }
+
+    private User createUser(String name) {
+        return userRepository.save(User.builder().email(name + "@santa.com").name(name).nickname(name).build());
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.santa.domain.meeting.service;
+
+import com.example.santa.domain.category.entity.Category;
+import com.example.santa.domain.category.repository.CategoryRepository;
+import com.example.santa.domain.meeting.dto.MeetingResponseDto;
+import com.example.santa.domain.meeting.entity.Meeting;
+import com.example.santa.domain.meeting.entity.MeetingTag;
+import com.example.santa.domain.meeting.entity.Participant;
+import com.example.santa.domain.meeting.entity.Tag;
+import com.example.santa.domain.meeting.repository.MeetingRepository;
+import com.example.santa.domain.meeting.repository.MeetingTagRepository;
+import com.example.santa.domain.meeting.repository.ParticipantRepository;
+import com.example.santa.domain.user.entity.User;
+import com.example.santa.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:santa;MODE=MySQL;NON_KEYWORDS=USER,VALUE,END,KEY,YEAR,MONTH,DAY",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MeetingServiceImplTest {
+
+    private static final int MEETING_COUNT = 20;
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MeetingRepository meetingRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private MeetingTagRepository meetingTagRepository;
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    private MeetingServiceImpl meetingService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // 목록 조회에는 태그 변환, mapper, S3 를 사용하지 않음
+        meetingService = new MeetingServiceImpl(meetingRepository, userRepository, categoryRepository, null,
+                meetingTagRepository, participantRepository, null, null, null);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Category[] categories = {new Category(null, "등산"), new Category(null, "트래킹")};
+        for (Category category : categories) {
+            entityManager.persist(category);
+        }
+        Tag[] tags = {Tag.builder().name("초보").build(), Tag.builder().name("주말").build(), Tag.builder().name("야간").build()};
+        for (Tag tag : tags) {
+            entityManager.persist(tag);
+        }
+        User[] users = new User[5];
+        for (int i = 0; i < users.length; i++) {
+            users[i] = User.builder().email("user" + i + "@santa.com").name("user" + i).nickname("nick" + i).build();
+            entityManager.persist(users[i]);
+        }
+
+        for (int i = 0; i < MEETING_COUNT; i++) {
+            Meeting meeting = Meeting.builder()
+                    .meetingName("모임" + i)
+                    .description("설명")
+                    .headcount(10)
+                    .date(LocalDate.now().plusDays(i))
+                    .category(categories[i % categories.length])
+                    .leader(users[i % users.length])
+                    .build();
+            entityManager.persist(meeting);
+            for (int t = 0; t < 2; t++) {
+                entityManager.persist(MeetingTag.builder().meeting(meeting).tag(tags[(i + t) % tags.length]).build());
+            }
+            for (int p = 0; p < 3; p++) {
+                entityManager.persist(Participant.builder().meeting(meeting).user(users[(i + p) % users.length]).isLeader(p == 0).build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void getAllMeetings_쿼리수가_페이지크기와_무관() {
+        long smallPage = countStatements(5);
+        long fullPage = countStatements(MEETING_COUNT);
+
+        // 목록 + count + 태그 + 태그명 + 참가자 + 참가자 유저
+        assertTrue(fullPage <= 6, "statements per page : " + fullPage);
+        assertEquals(smallPage, fullPage);
+    }
+
+    @Test
+    void getAllMeetings_연관관계_변환() {
+        Page<MeetingResponseDto> page = meetingService.getAllMeetings(PageRequest.of(0, MEETING_COUNT, Sort.by("id")));
+
+        assertEquals(MEETING_COUNT, page.getContent().size());
+        MeetingResponseDto first = page.getContent().get(0);
+        assertEquals("등산", first.getCategoryName());
+        assertEquals(2, first.getTags().size());
+        assertEquals(3, first.getParticipants().size());
+        assertNotNull(first.getLeaderId());
+    }
+
+    private long countStatements(int size) {
+        entityManager.clear();
+        statistics.clear();
+        meetingService.getAllMeetings(PageRequest.of(0, size, Sort.by("id")));
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.santa.domain.meeting.service;
+
+import com.example.santa.domain.meeting.entity.Tag;
+import com.example.santa.domain.meeting.repository.TagRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * 태그 이름 변환
+ * MySQL 기본 정렬 규칙처럼 대소문자를 구분하지 않도록 H2 를 IGNORECASE 로 실행
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:santa-tag;MODE=MySQL;IGNORECASE=TRUE;NON_KEYWORDS=USER,VALUE,END,KEY,YEAR,MONTH,DAY",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TagServiceImpl.class)
+class TagServiceImplTest {
+
+    @Autowired
+    private TagService tagService;
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Test
+    void resolveTags_대소문자가_다른_이름은_기존_태그로_변환() {
+        Tag hiking = tagRepository.saveAndFlush(Tag.builder().name("Hiking").build());
+
+        List<Tag> tags = tagService.resolveTags(List.of("hiking", "HIKING", "Trail"));
+
+        assertEquals(2, tags.size());
+        assertEquals(hiking.getId(), tags.get(0).getId());
+        assertEquals(2, tagRepository.count());
+
+        // 캐시에 들어간 뒤에도 같은 태그
+        List<Tag> cached = tagService.resolveTags(List.of("HiKiNg", "trail"));
+        assertEquals(hiking.getId(), cached.get(0).getId());
+        assertEquals(tags.get(1).getId(), cached.get(1).getId());
+        assertEquals(2, tagRepository.count());
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.santa.domain.mountain.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MountainImportServiceImplTest {
+
+    @Test
+    void offer_먼_곳의_같은_이름_정상으로는_옮기지_않음() {
+        // 등록된 봉화산 위치에서 약 1km, 약 200km 떨어진 같은 이름의 정상
+        MountainImportServiceImpl.Target target = new MountainImportServiceImpl.Target(1L, 37.50, 127.00);
+        target.offer(35.70, 127.00);
+        assertFalse(target.changed());
+
+        target.offer(37.51, 127.00);
+        assertTrue(target.changed());
+    }
+
+    @Test
+    void offer_좌표가_없는_산은_같은_이름_정상이_하나일_때만_반영() {
+        MountainImportServiceImpl.Target single = new MountainImportServiceImpl.Target(1L, 0, 0);
+        single.offer(37.50, 127.00);
+        assertTrue(single.changed());
+
+        MountainImportServiceImpl.Target ambiguous = new MountainImportServiceImpl.Target(2L, 0, 0);
+        ambiguous.offer(37.50, 127.00);
+        ambiguous.offer(35.70, 128.00);
+        assertTrue(ambiguous.ambiguous());
+        assertFalse(ambiguous.changed());
+    }
+}
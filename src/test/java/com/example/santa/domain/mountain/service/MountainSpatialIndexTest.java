@@ -0,0 +1,104 @@
+package com.example.santa.domain.mountain.service;
+
+import com.example.santa.domain.mountain.dto.MountainDistanceDto;
+import com.example.santa.domain.mountain.entity.Mountain;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MountainSpatialIndexTest {
+
+    @Test
+    void findNearest_반경안의_가장가까운산() {
+        MountainSpatialIndex index = new MountainSpatialIndex(null);
+        // 두 산 모두 5km 안에 있어도 가까운 산 하나만 반환
+        index.load(List.of(
+                mountain(1L, "북한산", 37.6584, 126.9779),
+                mountain(2L, "도봉산", 37.6990, 127.0155),
+                mountain(3L, "한라산", 33.3617, 126.5292)));
+
+        Optional<MountainDistanceDto> nearest = index.findNearest(37.6700, 126.9900, 5);
+
+        assertTrue(nearest.isPresent());
+        assertEquals(1L, nearest.get().getId());
+        assertTrue(index.findNearest(35.0, 128.0, 5).isEmpty());
+    }
+
+    @Test
+    void findNearest_전체탐색과_같은결과() {
+        Random random = new Random(42);
+        List<Mountain> mountains = new ArrayList<>();
+        for (long id = 1; id <= 7_400; id++) {
+            mountains.add(mountain(id, "산" + id, 33 + random.nextDouble() * 5.5, 124.5 + random.nextDouble() * 7));
+        }
+        MountainSpatialIndex index = new MountainSpatialIndex(null);
+        index.load(mountains);
+
+        for (int i = 0; i < 2_000; i++) {
+            double latitude = 33 + random.nextDouble() * 5.5;
+            double longitude = 124.5 + random.nextDouble() * 7;
+
+            Mountain expected = null;
+            double expectedDistance = Double.MAX_VALUE;
+            for (Mountain mountain : mountains) {
+                double distance = MountainSpatialIndex.distance(latitude, longitude, mountain.getLatitude(), mountain.getLongitude());
+                if (distance < 5 && distance < expectedDistance) {
+                    expected = mountain;
+                    expectedDistance = distance;
+                }
+            }
+
+            Optional<MountainDistanceDto> nearest = index.findNearest(latitude, longitude, 5);
+            if (expected == null) {
+                assertTrue(nearest.isEmpty());
+            } else {
+                assertEquals(expected.getId(), nearest.orElseThrow().getId());
+                assertEquals(expectedDistance, nearest.get().getDistance(), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void findNearest_k개_거리순() {
+        Random random = new Random(7);
+        List<Mountain> mountains = new ArrayList<>();
+        for (long id = 1; id <= 7_400; id++) {
+            mountains.add(mountain(id, "산" + id, 33 + random.nextDouble() * 5.5, 124.5 + random.nextDouble() * 7));
+        }
+        MountainSpatialIndex index = new MountainSpatialIndex(null);
+        index.load(mountains);
+
+        for (int i = 0; i < 500; i++) {
+            double latitude = 33 + random.nextDouble() * 5.5;
+            double longitude = 124.5 + random.nextDouble() * 7;
+
+            List<Long> expected = mountains.stream()
+                    .filter(m -> MountainSpatialIndex.distance(latitude, longitude, m.getLatitude(), m.getLongitude()) < 20)
+                    .sorted(Comparator.comparingDouble(m -> MountainSpatialIndex.distance(latitude, longitude, m.getLatitude(), m.getLongitude())))
+                    .limit(10)
+                    .map(Mountain::getId)
+                    .toList();
+
+            List<Long> actual = index.findNearest(latitude, longitude, 10, 20).stream()
+                    .map(MountainDistanceDto::getId)
+                    .toList();
+            assertEquals(expected, actual);
+        }
+    }
+
+    private Mountain mountain(Long id, String name, double latitude, double longitude) {
+        Mountain mountain = new Mountain();
+        mountain.setId(id);
+        mountain.setName(name);
+        mountain.setHeight(500);
+        mountain.setLatitude(latitude);
+        mountain.setLongitude(longitude);
+        return mountain;
+    }
+}
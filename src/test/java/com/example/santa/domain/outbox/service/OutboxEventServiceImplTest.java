@@ -0,0 +1,31 @@
+package com.example.santa.domain.outbox.service;
+
+import com.example.santa.domain.meeting.repository.MeetingRepository;
+import com.example.santa.domain.outbox.entity.OutboxEvent;
+import com.example.santa.domain.outbox.entity.OutboxEventType;
+import com.example.santa.domain.outbox.repository.OutboxEventRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OutboxEventServiceImplTest {
+
+    private final OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+    private final OutboxEventService outboxEventService =
+            new OutboxEventServiceImpl(outboxEventRepository, mock(MeetingRepository.class));
+
+    @Test
+    void publishClimbVerified_산높이를_소수점까지_저장() {
+        outboxEventService.publishClimbVerified(7L, 3L, LocalDate.of(2024, 5, 1), 1950.7);
+
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+        OutboxEvent event = captor.getValue();
+        assertEquals(OutboxEventType.CLIMB_VERIFIED, event.getEventType());
+        assertEquals(1950.7, event.getHeight());
+    }
+}
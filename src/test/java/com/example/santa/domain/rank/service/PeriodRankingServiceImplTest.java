@@ -0,0 +1,58 @@
+package com.example.santa.domain.rank.service;
+
+import com.example.santa.domain.rank.entity.RankingPeriod;
+import com.example.santa.domain.rank.repository.PeriodRankingRepository;
+import com.example.santa.domain.rank.repository.RankingSnapshotRepository;
+import com.example.santa.global.util.RedisUtil;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PeriodRankingServiceImplTest {
+
+    private final PeriodRankingRepository periodRankingRepository = mock(PeriodRankingRepository.class);
+    private final RankingSnapshotRepository rankingSnapshotRepository = mock(RankingSnapshotRepository.class);
+    private final PeriodRankingService periodRankingService =
+            new PeriodRankingServiceImpl(periodRankingRepository, rankingSnapshotRepository, mock(RedisUtil.class));
+
+    @Test
+    void addScore_현재_기간에_반영() {
+        LocalDate today = LocalDate.now();
+
+        periodRankingService.addScore(1L, today, 100);
+
+        for (RankingPeriod period : RankingPeriod.values()) {
+            verify(periodRankingRepository).addScore(period.name(), period.keyOf(today), 1L, 100);
+        }
+    }
+
+    @Test
+    void addScore_고정되지_않은_바로_앞_기간에_반영() {
+        LocalDate lastQuarter = LocalDate.now().minusMonths(3);
+
+        periodRankingService.addScore(1L, lastQuarter, 100);
+
+        verify(periodRankingRepository).addScore(RankingPeriod.SEASON.name(), RankingPeriod.SEASON.keyOf(lastQuarter), 1L, 100);
+    }
+
+    @Test
+    void addScore_고정된_바로_앞_기간은_건너뜀() {
+        LocalDate lastQuarter = LocalDate.now().minusMonths(3);
+        when(rankingSnapshotRepository.existsByPeriodAndPeriodKey(any(), anyString())).thenReturn(true);
+
+        periodRankingService.addScore(1L, lastQuarter, 100);
+
+        verify(periodRankingRepository, never()).addScore(anyString(), anyString(), anyLong(), anyDouble());
+    }
+
+    @Test
+    void addScore_오래된_날짜와_미래_날짜는_건너뜀() {
+        periodRankingService.addScore(1L, LocalDate.of(2019, 5, 1), 100);
+        periodRankingService.addScore(1L, LocalDate.now().plusYears(1), 100);
+
+        verify(periodRankingRepository, never()).addScore(anyString(), anyString(), anyLong(), anyDouble());
+    }
+}
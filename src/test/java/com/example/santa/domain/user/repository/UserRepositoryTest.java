@@ -0,0 +1,67 @@
+package com.example.santa.domain.user.repository;
+
+import com.example.santa.domain.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 각 증가가 실제로 커밋되어야 하므로 테스트 트랜잭션은 사용하지 않음
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:santa-user;MODE=MySQL;LOCK_TIMEOUT=10000;NON_KEYWORDS=USER,VALUE,END,KEY,YEAR,MONTH,DAY",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserRepositoryTest {
+
+    private static final int THREADS = 16;
+    private static final int INCREMENTS_PER_THREAD = 50;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void increaseAccumulatedHeight_동시증가시_유실없음() throws Exception {
+        Long userId = userRepository.save(User.builder().email("climber@santa.com").name("climber").nickname("climber").build()).getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < INCREMENTS_PER_THREAD; j++) {
+                    userRepository.increaseAccumulatedHeight(userId, 100.5);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        User user = userRepository.findById(userId).orElseThrow();
+        assertEquals(THREADS * INCREMENTS_PER_THREAD * 100.5, user.getAccumulatedHeight(), 1e-6);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.santa.global.security;
+
+import com.example.santa.global.exception.ExceptionCode;
+import com.example.santa.global.exception.ServiceLogicException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService requestThreads = Executors.newFixedThreadPool(8);
+
+    // bcrypt 대신 release 될 때까지 멈춰 있는 인코더
+    private final PasswordEncoder slowEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return encodedPassword.equals("hash:" + rawPassword);
+        }
+
+        private void await() {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        requestThreads.shutdownNow();
+    }
+
+    @Test
+    void 풀과_큐가_차면_기다리지않고_바로_거부() throws Exception {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(slowEncoder, meterRegistry, 1, 1, 5_000);
+
+        // 스레드 1개 + 큐 1개를 채움
+        List<Future<String>> running = new ArrayList<>();
+        running.add(requestThreads.submit(() -> encoder.encode("a")));
+        running.add(requestThreads.submit(() -> encoder.encode("b")));
+        Thread.sleep(200);
+
+        long start = System.nanoTime();
+        ServiceLogicException e = assertThrows(ServiceLogicException.class, () -> encoder.encode("c"));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(ExceptionCode.PASSWORD_HASHER_BUSY, e.getExceptionCode());
+        assertTrue(elapsedMs < 100, "거부는 해시 시간을 기다리지 않아야 함 : " + elapsedMs + "ms");
+        assertEquals(1.0, meterRegistry.get("password.hash.rejected").counter().count());
+
+        // 밀려 있던 요청은 정상 처리
+        release.countDown();
+        for (Future<String> future : running) {
+            assertTrue(future.get(5, TimeUnit.SECONDS).startsWith("hash:"));
+        }
+        assertEquals(2, meterRegistry.get("password.hash.duration").tag("op", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("password.hash.queue.wait").timer().count());
+    }
+
+    @Test
+    void timeout_안에_끝나지_않으면_거부() {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(slowEncoder, meterRegistry, 1, 4, 100);
+
+        ServiceLogicException e = assertThrows(ServiceLogicException.class, () -> encoder.matches("a", "hash:a"));
+
+        assertEquals(ExceptionCode.PASSWORD_HASHER_BUSY, e.getExceptionCode());
+    }
+
+    @Test
+    void 해시와_비교_결과는_위임한_인코더와_같음() {
+        release.countDown();
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(slowEncoder, meterRegistry, 2, 4, 1_000);
+
+        String hash = encoder.encode("password");
+
+        assertTrue(encoder.matches("password", hash));
+        assertFalse(encoder.matches("other", hash));
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.santa.global.security.jwt;
+
+import com.example.santa.domain.user.entity.Role;
+import com.example.santa.domain.user.entity.User;
+import com.example.santa.global.exception.ExceptionCode;
+import com.example.santa.global.exception.ServiceLogicException;
+import com.example.santa.global.security.UserPrincipal;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "akd1jf1lk3ad6fjl6k4afd3hau6lfh2fh8ewu4fh9sde4sf28dsf3fn98djf49sd4sf823fns46sd8fo4djf";
+
+    private final RefreshTokenStore refreshTokenStore = mock(RefreshTokenStore.class);
+    private final TokenRevocationService tokenRevocationService = mock(TokenRevocationService.class);
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, refreshTokenStore, tokenRevocationService);
+
+    @Test
+    void resolveAuthentication_같은토큰은_캐시된_Authentication_반환() {
+        JwtToken jwtToken = jwtTokenProvider.generateToken(user());
+
+        Authentication first = jwtTokenProvider.resolveAuthentication(jwtToken.getAccessToken());
+        Authentication second = jwtTokenProvider.resolveAuthentication(jwtToken.getAccessToken());
+
+        assertNotNull(first);
+        assertEquals("user@test.com", first.getName());
+        assertEquals("USER", first.getAuthorities().iterator().next().getAuthority());
+        assertSame(first, second);
+
+        UserPrincipal principal = (UserPrincipal) first.getPrincipal();
+        assertEquals(7L, principal.getId());
+        assertEquals(Role.USER, principal.getRole());
+        assertEquals("산타", principal.getNickname());
+    }
+
+    @Test
+    void resolveAuthentication_변조된토큰과_refresh토큰은_거부() {
+        JwtToken jwtToken = jwtTokenProvider.generateToken(user());
+        String accessToken = jwtToken.getAccessToken();
+        String tampered = accessToken.substring(0, accessToken.length() - 2) + (accessToken.endsWith("AA") ? "BB" : "AA");
+
+        assertNull(jwtTokenProvider.resolveAuthentication(tampered));
+        assertNull(jwtTokenProvider.resolveAuthentication(jwtToken.getRefreshToken()));
+        assertNull(jwtTokenProvider.resolveAuthentication("not-a-jwt"));
+    }
+
+    @Test
+    void refresh토큰으로_재발급한_access토큰도_인증됨() {
+        JwtToken jwtToken = jwtTokenProvider.generateToken(user());
+
+        when(refreshTokenStore.rotate(anyString(), anyString(), anyString(), any())).thenReturn(RefreshTokenStore.RotationResult.ROTATED);
+
+        JwtToken reissued = jwtTokenProvider.rotateRefreshToken(jwtToken.getRefreshToken());
+
+        Authentication authentication = jwtTokenProvider.resolveAuthentication(reissued.getAccessToken());
+        assertNotNull(authentication);
+        assertEquals(7L, ((UserPrincipal) authentication.getPrincipal()).getId());
+        assertNotEquals(jwtToken.getRefreshToken(), reissued.getRefreshToken());
+    }
+
+    @Test
+    void 이미_사용한_refresh토큰이면_패밀리_폐기() {
+        JwtToken jwtToken = jwtTokenProvider.generateToken(user());
+        when(refreshTokenStore.rotate(anyString(), anyString(), anyString(), any())).thenReturn(RefreshTokenStore.RotationResult.REUSED);
+
+        ServiceLogicException e = assertThrows(ServiceLogicException.class,
+                () -> jwtTokenProvider.rotateRefreshToken(jwtToken.getRefreshToken()));
+
+        assertEquals(ExceptionCode.REVOKED_JWT_TOKEN, e.getExceptionCode());
+        verify(tokenRevocationService).revokeFamily(anyString());
+    }
+
+    @Test
+    void 폐기된_access토큰은_캐시되어_있어도_거부() {
+        JwtToken jwtToken = jwtTokenProvider.generateToken(user());
+        assertNotNull(jwtTokenProvider.resolveAuthentication(jwtToken.getAccessToken()));
+
+        when(tokenRevocationService.isRevoked(eq(7L), anyLong(), anyString())).thenReturn(true);
+
+        assertNull(jwtTokenProvider.resolveAuthentication(jwtToken.getAccessToken()));
+    }
+
+    private User user() {
+        User user = User.builder().email("user@test.com").nickname("산타").role(Role.USER).build();
+        ReflectionTestUtils.setField(user, "id", 7L);
+        return user;
+    }
+}